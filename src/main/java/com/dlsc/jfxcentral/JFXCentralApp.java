@@ -1,12 +1,25 @@
 package com.dlsc.jfxcentral;
 
 import com.dlsc.gemsfx.util.StageManager;
+import com.dlsc.jfxcentral.cache.ArtifactVersionCache;
+import com.dlsc.jfxcentral.cache.BlogPostCache;
+import com.dlsc.jfxcentral.cache.MarkdownStore;
+import com.dlsc.jfxcentral.cache.ModelSnapshot;
+import com.dlsc.jfxcentral.cache.PullRequestCache;
+import com.dlsc.jfxcentral.cache.ThumbnailStore;
 import com.dlsc.jfxcentral.data.DataRepository;
 import com.dlsc.jfxcentral.data.model.ModelObject;
 import com.dlsc.jfxcentral.panels.SectionPane;
+import com.dlsc.jfxcentral.search.SearchCache;
+import com.dlsc.jfxcentral.search.SearchIndex;
 import com.dlsc.jfxcentral.util.Detector;
+import com.dlsc.jfxcentral.util.FilterSnapshot;
 import com.dlsc.jfxcentral.util.PageUtil;
+import com.dlsc.jfxcentral.util.RepositoryBootstrap;
+import com.dlsc.jfxcentral.util.RepositoryChanges;
 import com.dlsc.jfxcentral.views.IntroView;
+import com.dlsc.jfxcentral.views.RootPanePool;
+import com.dlsc.jfxcentral.views.ikonli.IkonCatalog;
 import com.dlsc.jfxcentral.views.ikonli.IkonliBrowser;
 import com.dlsc.showcase.CssShowcaseView;
 import com.dustinredmond.fxtrayicon.FXTrayIcon;
@@ -30,6 +43,8 @@ import javafx.stage.Stage;
 import javafx.stage.StageStyle;
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.lib.ProgressMonitor;
 import org.eclipse.jgit.lib.TextProgressMonitor;
 import org.eclipse.jgit.merge.ContentMergeStrategy;
@@ -42,9 +57,12 @@ import java.net.URI;
 import java.nio.file.*;
 import java.util.Comparator;
 import java.util.function.Consumer;
+import java.util.logging.Logger;
 
 public class JFXCentralApp extends Application {
 
+    private static final Logger LOG = Logger.getLogger(JFXCentralApp.class.getName());
+
     private static boolean repositoryInitialized;
     private WebApp app;
 
@@ -52,6 +70,9 @@ public class JFXCentralApp extends Application {
     public void start(Stage stage) throws IOException, GitAPIException {
         app = new WebApp(stage);
 
+        // resolve the icon fonts of the ikonli browser in the background, long before it gets opened
+        IkonCatalog.preload();
+
         Scene scene;
 
         Parent root = app;
@@ -69,7 +90,16 @@ public class JFXCentralApp extends Application {
         } else {
             if (!repositoryInitialized) {
                 updateRepository(new TextProgressMonitor());
+
+                // fetch the pull requests, blog posts, and artifact versions before the first visitor asks for them
+                PullRequestCache.getInstance().start();
+                BlogPostCache.getInstance().prefetch();
+                ArtifactVersionCache.getInstance().start();
             }
+
+            // build a few root panes now so that the first visitors do not have to wait for them
+            RootPanePool.getInstance().prefill();
+
             scene = new Scene(root);
         }
 
@@ -329,34 +359,97 @@ public class JFXCentralApp extends Application {
     }
 
     public static void updateRepository(ProgressMonitor monitor) throws GitAPIException, IOException {
+        RepositoryChanges changes = RepositoryChanges.all();
+        ObjectId head = null;
 
         if(System.getProperty("jfxcentral.repo") == null) {
             System.out.println("updating repository, monitor = " + monitor);
             File repoDirectory = DataRepository.getInstance().getRepositoryDirectory();
+
+            // the bootstrap already fetches the latest commit, a second pull right after it would be wasted
+            boolean bootstrapped = false;
             if (!repoDirectory.exists()) {
-                Git.cloneRepository()
-                        .setURI("https://github.com/dlemmermann/jfxcentral-data.git") //
-                        .setBranch("live")
-                        .setDirectory(repoDirectory)
-                        .setProgressMonitor(monitor)
-                        .call();
-            } else {
-                repoDirectory = new File(DataRepository.getInstance().getRepositoryDirectory(), "/.git");
-                Git git = new Git(new FileRepositoryBuilder().create(repoDirectory));
+                RepositoryBootstrap.bootstrap(repoDirectory, monitor);
+                bootstrapped = true;
+            }
+
+            repoDirectory = new File(DataRepository.getInstance().getRepositoryDirectory(), "/.git");
+            Git git = new Git(new FileRepositoryBuilder().create(repoDirectory));
+            ObjectId oldHead = git.getRepository().resolve(Constants.HEAD);
+            if (!bootstrapped) {
                 git.pull().setContentMergeStrategy(ContentMergeStrategy.THEIRS).call();
             }
+            head = git.getRepository().resolve(Constants.HEAD);
+
+            // the data has to be loaded completely the first time, no matter what the pull brought in
+            if (repositoryInitialized) {
+                changes = RepositoryChanges.between(git.getRepository(), oldHead, head);
+            }
+            git.close();
 
             Git.shutdown();
         }
 
-        // trigger the data loading inside the data repository if needed
-        DataRepository.getInstance().loadData();
+        String commit = head != null ? head.name() : null;
+
+        // on startup the model can be restored from the snapshot if the pull did not bring in any changes
+        if (!repositoryInitialized && ModelSnapshot.restore(commit)) {
+            rebuildDerivedData();
+        } else {
+            reloadData(changes);
+
+            if (changes.affectsModel()) {
+                ModelSnapshot.writeInBackground(commit);
+            }
+        }
+
+        ThumbnailStore.getInstance().updateInBackground(changes, commit);
 
         monitor.endTask();
 
         repositoryInitialized = true;
     }
 
+    /**
+     * Loads the data from the local repository checkout and rebuilds all
+     * derived structures, e.g. the search index, the search cache, and the
+     * filter snapshot.
+     */
+    public static void reloadData() {
+        reloadData(RepositoryChanges.all());
+    }
+
+    /**
+     * Loads the data from the local repository checkout if the given changes
+     * require it and rebuilds the derived structures affected by them. A
+     * refresh that did not pull in any changes of the model does not cause
+     * any work, so the open sessions do not have to update their pages.
+     *
+     * @param changes the changes pulled in by the last update of the repository
+     */
+    public static void reloadData(RepositoryChanges changes) {
+        if (!changes.affectsModel()) {
+            LOG.info("no changes of the model, skipping the reload (" + changes + ")");
+            return;
+        }
+
+        LOG.info("reloading data (" + changes + ")");
+
+        // trigger the data loading inside the data repository if needed
+        DataRepository.getInstance().loadData();
+
+        rebuildDerivedData();
+    }
+
+    private static void rebuildDerivedData() {
+        SearchIndex.rebuild();
+        SearchCache.getInstance().clear();
+        MarkdownStore.getInstance().clear();
+
+        // only rebuilds the snapshot if one of the lists it indexes has been replaced
+        FilterSnapshot.getInstance();
+    }
+
     private void showHomeOrLoadingView(WebApp app, Stage stage) {
 //        if (DataRepository.getInstance().isLoaded()) {
         showHome(app, stage);
@@ -1,5 +1,9 @@
 package com.dlsc.jfxcentral;
 
+import com.dlsc.jfxcentral.cache.ImageCache;
+import com.dlsc.jfxcentral.search.SearchCache;
+import com.dlsc.jfxcentral.views.RootPanePool;
+import com.dlsc.jfxcentral.views.autocomplete.OmniSearchScheduler;
 import de.sandec.jmemorybuddy.JMemoryBuddyLive;
 import javafx.scene.Node;
 import javafx.scene.control.Label;
@@ -32,6 +36,27 @@ public class MemoryView extends com.jpro.web.View {
             res.getChildren().add(new Label("entry: " + entry.name));
         }
 
+        OmniSearchScheduler scheduler = OmniSearchScheduler.getInstance();
+        res.getChildren().add(new Label("search threads: " + scheduler.getThreadCount()));
+        res.getChildren().add(new Label("search queue depth: " + scheduler.getQueueDepth() + ", delayed: " + scheduler.getDelayedCount()));
+        res.getChildren().add(new Label("searches submitted: " + scheduler.getSubmittedCount() + ", superseded: " + scheduler.getSupersededCount() + ", completed: " + scheduler.getCompletedCount()));
+        res.getChildren().add(new Label(String.format("search wait time: avg %.2f ms, max %.2f ms", scheduler.getAverageWaitTime(), scheduler.getMaxWaitTime())));
+        res.getChildren().add(new Label(String.format("search run time: avg %.2f ms, max %.2f ms", scheduler.getAverageRunTime(), scheduler.getMaxRunTime())));
+
+        SearchCache cache = SearchCache.getInstance();
+        res.getChildren().add(new Label("search cache size: " + cache.getSize() + " / " + cache.getMaxSize()));
+        res.getChildren().add(new Label(String.format("search cache hit rate: %.1f %% (%d hits, %d misses)", cache.getHitRate() * 100, cache.getHitCount(), cache.getMissCount())));
+        res.getChildren().add(new Label("search cache evictions: " + cache.getEvictionCount() + ", expirations: " + cache.getExpirationCount() + ", invalidations: " + cache.getInvalidationCount()));
+
+        ImageCache imageCache = ImageCache.getInstance();
+        res.getChildren().add(new Label("image cache size: " + (imageCache.getSize() / 1024) + " KB"));
+        res.getChildren().add(new Label("image cache hits: " + imageCache.getHitCount() + ", misses: " + imageCache.getMissCount() + ", evictions: " + imageCache.getEvictionCount()));
+
+        RootPanePool pool = RootPanePool.getInstance();
+        res.getChildren().add(new Label("root pane pool: " + pool.getSize(false) + " desktop, " + pool.getSize(true) + " mobile (max " + pool.getMaxSize() + " each)"));
+        res.getChildren().add(new Label("root pane pool hits: " + pool.getHitCount() + ", misses: " + pool.getMissCount()));
+        res.getChildren().add(new Label(String.format("session startup time: avg %.2f ms, max %.2f ms (%d sessions)", pool.getAverageStartupTime(), pool.getMaxStartupTime(), pool.getStartupCount())));
+
         return res;
     }
 
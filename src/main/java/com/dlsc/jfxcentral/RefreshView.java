@@ -1,6 +1,5 @@
 package com.dlsc.jfxcentral;
 
-import com.dlsc.jfxcentral.data.DataRepository;
 import com.dlsc.jfxcentral.views.DukeAnimationView;
 import javafx.scene.Node;
 
@@ -24,7 +23,9 @@ public class RefreshView extends com.jpro.web.View {
         view.setEndText("Done!");
         view.showLastImage();
 
-        JFXCentralApp.updateRepositoryInBackground(view, () -> DataRepository.getInstance().loadData());
+        // updating the repository already reloads the data if the pull brought in any changes
+        JFXCentralApp.updateRepositoryInBackground(view, () -> {
+        });
 
         return view;
     }
@@ -6,10 +6,14 @@ import com.dlsc.jfxcentral.util.DeveloperTool;
 import com.dlsc.jfxcentral.util.PageUtil;
 import com.dlsc.jfxcentral.views.IPage;
 import com.dlsc.jfxcentral.views.RootPane;
+import com.dlsc.jfxcentral.views.RootPanePool;
 import com.dlsc.jfxcentral.views.View;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.scene.Node;
+import javafx.scene.Scene;
 import javafx.scene.layout.StackPane;
 
 import java.util.Optional;
@@ -19,12 +23,17 @@ public class WebView extends com.jpro.web.View {
 
     private final boolean mobile;
     private final String initialURL;
-    private RootPane rootPane = new RootPane();
+    private final RootPane rootPane;
+
+    // the session starts with the creation of its view, right after the route has been matched
+    private final long creationTime = System.nanoTime();
 
     public WebView(String initialURL, boolean mobile) {
         this.initialURL = initialURL;
         this.mobile = mobile;
 
+        // already initialized, new sessions do not have to wait for the header and the menus to be built
+        rootPane = RootPanePool.getInstance().take(mobile);
         rootPane.disableEffectsProperty().bind(disableEffectsProperty());
     }
 
@@ -53,7 +62,6 @@ public class WebView extends com.jpro.web.View {
 
     @Override
     public Node content() {
-        rootPane.init(mobile);
         handleURL(initialURL);
 //        rootPane.setMaxWidth(1200);
 
@@ -63,9 +71,38 @@ public class WebView extends com.jpro.web.View {
         if (mobile) {
             wrapper.getStyleClass().add("mobile");
         }
+
+        measureStartupTime();
+
         return wrapper;
     }
 
+    /*
+     * Reports the time until the first pulse after the root pane has been
+     * added to the scene of the session, i.e. until it has been rendered.
+     */
+    private void measureStartupTime() {
+        rootPane.sceneProperty().addListener(new InvalidationListener() {
+            @Override
+            public void invalidated(Observable it) {
+                Scene scene = rootPane.getScene();
+                if (scene == null) {
+                    return;
+                }
+
+                rootPane.sceneProperty().removeListener(this);
+
+                scene.addPostLayoutPulseListener(new Runnable() {
+                    @Override
+                    public void run() {
+                        scene.removePostLayoutPulseListener(this);
+                        RootPanePool.getInstance().recordStartupTime(System.nanoTime() - creationTime);
+                    }
+                });
+            }
+        });
+    }
+
     // IF this returns true, we don't query for a new page
     @Override
     public boolean handleURL(String s) {
@@ -0,0 +1,306 @@
+package com.dlsc.jfxcentral.cache;
+
+import com.dlsc.jfxcentral.data.DataRepository;
+import com.dlsc.jfxcentral.data.model.Coordinates;
+import com.dlsc.jfxcentral.util.Doc;
+import com.dlsc.jfxcentral.util.QueryResult;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyStringProperty;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A process-wide cache for the latest versions of the libraries and tools
+ * published on Maven Central, shared by all sessions. Instead of one remote
+ * lookup per opened page, the versions of all known artifacts get resolved
+ * in batches, each batch being a single query against the Solr search API
+ * of Maven Central (see {@link QueryResult}). Versions requested by the UI
+ * that are not known, yet, get collected for a short moment and are then
+ * resolved together as well.
+ * <p>
+ * The versions are stored on disk via the {@link CacheStore} and get
+ * refreshed by a background thread once they are older than the maximum age,
+ * so pages never have to wait for them.
+ * <p>
+ * The maximum age can be configured via the system property
+ * "jfxcentral.versions.maxage" (minutes).
+ */
+public final class ArtifactVersionCache {
+
+    private static final Logger LOG = Logger.getLogger(ArtifactVersionCache.class.getName());
+
+    private static final String FILE_NAME = "artifact-versions.json";
+
+    private static final String SEARCH_URL = "https://search.maven.org/solrsearch/select?wt=json&rows=";
+
+    // keeps the URL of a query well below the limits of the search server
+    private static final int BATCH_SIZE = 20;
+
+    private static final long CHECK_INTERVAL = Duration.ofHours(1).toMillis();
+
+    private static final long COLLECT_DELAY = 250;
+
+    private static final ArtifactVersionCache INSTANCE = new ArtifactVersionCache(Duration.ofMinutes(Long.getLong("jfxcentral.versions.maxage", 720)));
+
+    private final long maxAge;
+
+    private final ScheduledExecutorService executor;
+
+    private final Gson gson = new Gson();
+
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    // key (group ID:artifact ID) -> resolved version
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    // coordinates requested by the UI that still need to be resolved
+    private final Set<String> requested = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean collecting = new AtomicBoolean();
+
+    // only accessed on the JavaFX application thread
+    private final Map<String, ReadOnlyStringWrapper> properties = new HashMap<>();
+
+    private ArtifactVersionCache(Duration maxAge) {
+        this.maxAge = maxAge.toMillis();
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("Artifact Version Thread");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the cache shared by all sessions.
+     *
+     * @return the artifact version cache
+     */
+    public static ArtifactVersionCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Starts the cache: restores the versions stored on disk and then
+     * periodically refreshes the versions of all libraries and tools that
+     * are older than the maximum age. Calling this method more than once has
+     * no effect.
+     */
+    public void start() {
+        if (started.compareAndSet(false, true)) {
+            executor.execute(this::restore);
+            executor.scheduleWithFixedDelay(this::refreshStale, 0, CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Returns a property holding the latest version of the given artifact.
+     * The property is empty as long as the version is not known and gets
+     * updated on the JavaFX application thread once it has been resolved.
+     * Must be called on the JavaFX application thread.
+     *
+     * @param coordinates the coordinates of the artifact
+     * @return the latest version
+     */
+    public ReadOnlyStringProperty versionProperty(Coordinates coordinates) {
+        start();
+
+        String key = key(coordinates.getGroupId(), coordinates.getArtifactId());
+
+        ReadOnlyStringWrapper property = properties.computeIfAbsent(key, k -> new ReadOnlyStringWrapper(this, "version", ""));
+
+        Entry entry = entries.get(key);
+        if (entry != null && entry.version != null) {
+            property.set(entry.version);
+        }
+
+        if (entry == null || System.currentTimeMillis() - entry.time >= maxAge) {
+            request(key);
+        }
+
+        return property.getReadOnlyProperty();
+    }
+
+    private void request(String key) {
+        requested.add(key);
+        if (collecting.compareAndSet(false, true)) {
+            executor.schedule(this::resolveRequested, COLLECT_DELAY, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void resolveRequested() {
+        collecting.set(false);
+
+        Set<String> keys = new LinkedHashSet<>(requested);
+        requested.removeAll(keys);
+
+        if (resolve(keys)) {
+            CacheStore.write(FILE_NAME, new HashMap<>(entries));
+        }
+    }
+
+    private void refreshStale() {
+        long now = System.currentTimeMillis();
+
+        Set<String> keys = new LinkedHashSet<>();
+
+        DataRepository repository = DataRepository.getInstance();
+        collectKeys(repository.getLibraries(), keys);
+        collectKeys(repository.getTools(), keys);
+
+        keys.removeIf(key -> {
+            Entry entry = entries.get(key);
+            return entry != null && now - entry.time < maxAge;
+        });
+
+        if (!keys.isEmpty() && resolve(keys)) {
+            CacheStore.write(FILE_NAME, new HashMap<>(entries));
+        }
+    }
+
+    private void collectKeys(List<? extends Coordinates> list, Set<String> keys) {
+        new ArrayList<>(list).forEach(coordinates -> {
+            if (StringUtils.isNotBlank(coordinates.getGroupId()) && StringUtils.isNotBlank(coordinates.getArtifactId())) {
+                keys.add(key(coordinates.getGroupId(), coordinates.getArtifactId()));
+            }
+        });
+    }
+
+    /*
+     * Resolves the versions of the given artifacts, BATCH_SIZE artifacts per
+     * query. Returns true if at least one batch could be resolved.
+     */
+    private boolean resolve(Set<String> keys) {
+        boolean resolved = false;
+
+        List<String> batch = new ArrayList<>(BATCH_SIZE);
+        for (String key : keys) {
+            batch.add(key);
+            if (batch.size() == BATCH_SIZE) {
+                resolved |= resolveBatch(batch);
+                batch.clear();
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            resolved |= resolveBatch(batch);
+        }
+
+        return resolved;
+    }
+
+    private boolean resolveBatch(List<String> keys) {
+        long now = System.currentTimeMillis();
+
+        StringBuilder query = new StringBuilder();
+        for (String key : keys) {
+            int index = key.indexOf(':');
+            if (query.length() > 0) {
+                query.append(" OR ");
+            }
+            query.append("(g:\"").append(key, 0, index).append("\" AND a:\"").append(key.substring(index + 1)).append("\")");
+        }
+
+        try {
+            URL url = new URL(SEARCH_URL + keys.size() + "&q=" + URLEncoder.encode(query.toString(), StandardCharsets.UTF_8));
+
+            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            connection.setConnectTimeout(10_000);
+            connection.setReadTimeout(30_000);
+
+            QueryResult result;
+            try (Reader reader = new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8)) {
+                result = gson.fromJson(reader, QueryResult.class);
+            } finally {
+                connection.disconnect();
+            }
+
+            Map<String, String> versions = new HashMap<>();
+            if (result != null && result.getResponse() != null && result.getResponse().getDocs() != null) {
+                for (Doc doc : result.getResponse().getDocs()) {
+                    versions.put(key(doc.getG(), doc.getA()), doc.getLatestVersion());
+                }
+            }
+
+            // artifacts that are not on Maven Central do not get looked up again before the maximum age
+            keys.forEach(key -> entries.put(key, new Entry(versions.get(key), now)));
+
+            publish(versions);
+
+            LOG.fine("resolved " + versions.size() + " of " + keys.size() + " artifact versions in " + (System.currentTimeMillis() - now) + " ms");
+            return true;
+        } catch (IOException | RuntimeException ex) {
+            LOG.log(Level.WARNING, "unable to resolve the artifact versions", ex);
+            return false;
+        }
+    }
+
+    private void restore() {
+        Map<String, Entry> stored = CacheStore.read(FILE_NAME, new TypeToken<Map<String, Entry>>() {
+        }.getType());
+
+        if (stored != null) {
+            Map<String, String> versions = new HashMap<>();
+            stored.forEach((key, entry) -> {
+                // never replace versions that have been resolved in the meantime
+                if (entries.putIfAbsent(key, entry) == null && entry.version != null) {
+                    versions.put(key, entry.version);
+                }
+            });
+
+            publish(versions);
+        }
+    }
+
+    private void publish(Map<String, String> versions) {
+        if (!versions.isEmpty()) {
+            Platform.runLater(() -> versions.forEach((key, version) -> {
+                ReadOnlyStringWrapper property = properties.get(key);
+                if (property != null && version != null) {
+                    property.set(version);
+                }
+            }));
+        }
+    }
+
+    private static String key(String groupId, String artifactId) {
+        return groupId.trim() + ":" + artifactId.trim();
+    }
+
+    private static final class Entry {
+
+        private final String version;
+
+        private final long time;
+
+        Entry(String version, long time) {
+            this.version = version;
+            this.time = time;
+        }
+    }
+}
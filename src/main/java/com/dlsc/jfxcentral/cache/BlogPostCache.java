@@ -0,0 +1,282 @@
+package com.dlsc.jfxcentral.cache;
+
+import com.dlsc.jfxcentral.data.DataRepository;
+import com.dlsc.jfxcentral.data.model.Blog;
+import com.dlsc.jfxcentral.data.model.Post;
+import com.google.gson.reflect.TypeToken;
+import com.rometools.rome.feed.synd.SyndEntry;
+import com.rometools.rome.feed.synd.SyndEntryImpl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A process-wide cache for the posts of the blogs, keyed by the ID of the
+ * blog and shared by all sessions. Posts that are older than the maximum age
+ * are still returned right away while fresh ones get loaded in the
+ * background (stale-while-revalidate). Concurrent requests for the same blog
+ * share a single download of its feed.
+ * <p>
+ * The feeds get loaded by a small, bounded pool of threads, which is also
+ * used for prefetching the posts of all blogs after the start of the server.
+ * The posts are stored on disk via the {@link CacheStore}, so they are
+ * available right after a restart.
+ * <p>
+ * The maximum age and the number of threads can be configured via the
+ * system properties "jfxcentral.blogs.maxage" (minutes) and
+ * "jfxcentral.blogs.threads".
+ */
+public final class BlogPostCache {
+
+    private static final Logger LOG = Logger.getLogger(BlogPostCache.class.getName());
+
+    private static final String FILE_NAME = "blog-posts.json";
+
+    private static final long SAVE_DELAY = Duration.ofSeconds(10).toMillis();
+
+    private static final BlogPostCache INSTANCE = new BlogPostCache(Duration.ofMinutes(Long.getLong("jfxcentral.blogs.maxage", 60)), Integer.getInteger("jfxcentral.blogs.threads", 4));
+
+    private final long maxAge;
+
+    private final ScheduledThreadPoolExecutor executor;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Map<String, CompletableFuture<List<Post>>> loading = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean restored = new AtomicBoolean();
+
+    private final AtomicBoolean saveScheduled = new AtomicBoolean();
+
+    private BlogPostCache(Duration maxAge, int threads) {
+        this.maxAge = maxAge.toMillis();
+
+        AtomicInteger count = new AtomicInteger();
+        executor = new ScheduledThreadPoolExecutor(threads, runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("Blog Posts Thread " + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the cache shared by all sessions.
+     *
+     * @return the blog post cache
+     */
+    public static BlogPostCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the posts of the given blog. The returned future is already
+     * completed if the cache contains posts of the blog, even if they are
+     * older than the maximum age. In that case fresh posts get loaded in the
+     * background and will be returned by later calls.
+     *
+     * @param blog the blog
+     * @return the immutable list of posts
+     */
+    public CompletableFuture<List<Post>> getPosts(Blog blog) {
+        restore();
+
+        Entry entry = entries.get(blog.getId());
+        if (entry != null) {
+            if (System.currentTimeMillis() - entry.time >= maxAge) {
+                load(blog);
+            }
+            return CompletableFuture.completedFuture(entry.posts);
+        }
+
+        return load(blog);
+    }
+
+    /**
+     * Loads the posts of all blogs that are not cached, yet, or that are
+     * older than the maximum age. The feeds get loaded by the bounded thread
+     * pool of the cache, so this method returns right away.
+     */
+    public void prefetch() {
+        restore();
+
+        long now = System.currentTimeMillis();
+        List<Blog> blogs = new ArrayList<>(DataRepository.getInstance().getBlogs());
+        blogs.forEach(blog -> {
+            Entry entry = entries.get(blog.getId());
+            if (entry == null || now - entry.time >= maxAge) {
+                load(blog);
+            }
+        });
+    }
+
+    private CompletableFuture<List<Post>> load(Blog blog) {
+        String id = blog.getId();
+
+        CompletableFuture<List<Post>> future = new CompletableFuture<>();
+        CompletableFuture<List<Post>> running = loading.putIfAbsent(id, future);
+        if (running != null) {
+            return running;
+        }
+
+        executor.execute(() -> {
+            try {
+                future.complete(fetch(blog));
+            } catch (Throwable ex) {
+                future.completeExceptionally(ex);
+            } finally {
+                loading.remove(id, future);
+            }
+        });
+
+        return future;
+    }
+
+    private List<Post> fetch(Blog blog) {
+        long now = System.currentTimeMillis();
+
+        try {
+            List<Post> posts = List.copyOf(DataRepository.getInstance().loadPosts(blog));
+
+            // an empty result usually means that the feed could not be reached, keep serving the old posts
+            Entry entry = entries.get(blog.getId());
+            if (posts.isEmpty() && entry != null && !entry.posts.isEmpty()) {
+                LOG.warning("no posts received for blog " + blog.getId() + ", keeping the cached ones");
+                return entry.posts;
+            }
+
+            entries.put(blog.getId(), new Entry(now, posts));
+            scheduleSave();
+
+            LOG.fine("loaded " + posts.size() + " posts of blog " + blog.getId() + " in " + (System.currentTimeMillis() - now) + " ms");
+            return posts;
+        } catch (RuntimeException ex) {
+            LOG.log(Level.WARNING, "unable to load the posts of blog " + blog.getId(), ex);
+
+            // keep serving the posts we already have
+            Entry entry = entries.get(blog.getId());
+            return entry != null ? entry.posts : Collections.emptyList();
+        }
+    }
+
+    /*
+     * Restores the posts stored on disk. Needs to happen after the blogs have
+     * been loaded by the data repository, hence the lazy invocation.
+     */
+    private void restore() {
+        if (!restored.compareAndSet(false, true)) {
+            return;
+        }
+
+        Map<String, StoredFeed> feeds = CacheStore.read(FILE_NAME, new TypeToken<Map<String, StoredFeed>>() {
+        }.getType());
+
+        if (feeds == null) {
+            return;
+        }
+
+        DataRepository repository = DataRepository.getInstance();
+        feeds.forEach((id, feed) -> repository.getBlogById(id).ifPresent(blog -> {
+            if (feed.posts == null) {
+                return;
+            }
+
+            List<Post> posts = new ArrayList<>(feed.posts.size());
+            feed.posts.forEach(stored -> posts.add(new Post(blog, stored.toSyndEntry())));
+
+            // never replace posts that have been loaded in the meantime
+            entries.putIfAbsent(id, new Entry(feed.time, List.copyOf(posts)));
+        }));
+
+        LOG.fine("restored the posts of " + entries.size() + " blogs from disk");
+    }
+
+    /*
+     * Writing the file once for every loaded feed would be wasteful while the
+     * feeds get prefetched, so changes get collected for a few seconds.
+     */
+    private void scheduleSave() {
+        if (saveScheduled.compareAndSet(false, true)) {
+            executor.schedule(this::save, SAVE_DELAY, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void save() {
+        saveScheduled.set(false);
+
+        Map<String, StoredFeed> feeds = new HashMap<>();
+        entries.forEach((id, entry) -> {
+            StoredFeed feed = new StoredFeed();
+            feed.time = entry.time;
+            feed.posts = new ArrayList<>(entry.posts.size());
+            entry.posts.forEach(post -> feed.posts.add(StoredPost.of(post.getSyndEntry())));
+            feeds.put(id, feed);
+        });
+
+        CacheStore.write(FILE_NAME, feeds);
+    }
+
+    private static final class Entry {
+
+        private final long time;
+
+        private final List<Post> posts;
+
+        Entry(long time, List<Post> posts) {
+            this.time = time;
+            this.posts = posts;
+        }
+    }
+
+    private static final class StoredFeed {
+
+        private long time;
+
+        private List<StoredPost> posts;
+    }
+
+    /*
+     * Only the parts of a feed entry that are needed for showing the posts.
+     */
+    private static final class StoredPost {
+
+        private String title;
+
+        private String link;
+
+        private Long publishedDate;
+
+        private Long updatedDate;
+
+        static StoredPost of(SyndEntry entry) {
+            StoredPost post = new StoredPost();
+            post.title = entry.getTitle();
+            post.link = entry.getLink();
+            post.publishedDate = entry.getPublishedDate() != null ? entry.getPublishedDate().getTime() : null;
+            post.updatedDate = entry.getUpdatedDate() != null ? entry.getUpdatedDate().getTime() : null;
+            return post;
+        }
+
+        SyndEntry toSyndEntry() {
+            SyndEntry entry = new SyndEntryImpl();
+            entry.setTitle(title);
+            entry.setLink(link);
+            entry.setPublishedDate(publishedDate != null ? new Date(publishedDate) : null);
+            entry.setUpdatedDate(updatedDate != null ? new Date(updatedDate) : null);
+            return entry;
+        }
+    }
+}
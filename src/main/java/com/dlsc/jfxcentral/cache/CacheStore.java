@@ -0,0 +1,113 @@
+package com.dlsc.jfxcentral.cache;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Reads and writes the files of the caches that survive a restart of the
+ * application, e.g. the pull requests loaded from GitHub. The files are
+ * stored as JSON inside the directory given by the system property
+ * "jfxcentral.cache.dir" (defaults to ".jfxcentral/cache" inside the user's
+ * home directory).
+ * <p>
+ * Files get written to a temporary file first and then moved to their final
+ * location, so readers never see a partially written file. Failures get
+ * logged but never thrown, as a missing cache file only means that the data
+ * has to be fetched again.
+ */
+public final class CacheStore {
+
+    private static final Logger LOG = Logger.getLogger(CacheStore.class.getName());
+
+    private static final Gson GSON = new GsonBuilder().create();
+
+    private CacheStore() {
+    }
+
+    /**
+     * Returns the directory used for the cache files.
+     *
+     * @return the cache directory
+     */
+    public static File getDirectory() {
+        String dir = System.getProperty("jfxcentral.cache.dir");
+        if (dir != null) {
+            return new File(dir);
+        }
+        return new File(System.getProperty("user.home"), ".jfxcentral/cache");
+    }
+
+    /**
+     * Returns the cache file with the given name.
+     *
+     * @param name the name of the file
+     * @return the file inside the cache directory
+     */
+    public static File getFile(String name) {
+        return new File(getDirectory(), name);
+    }
+
+    /**
+     * Reads the given cache file.
+     *
+     * @param name the name of the file
+     * @param type the type of the stored object
+     * @param <T>  the type of the stored object
+     * @return the stored object or null if the file does not exist or can not be read
+     */
+    public static <T> T read(String name, Type type) {
+        Path path = getFile(name).toPath();
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return GSON.fromJson(reader, type);
+        } catch (IOException | RuntimeException ex) {
+            LOG.log(Level.WARNING, "unable to read cache file " + path, ex);
+            return null;
+        }
+    }
+
+    /**
+     * Writes the given object to the cache file with the given name.
+     *
+     * @param name  the name of the file
+     * @param value the object to store
+     * @return true if the file was written successfully
+     */
+    public static boolean write(String name, Object value) {
+        Path path = getFile(name).toPath();
+
+        try {
+            Files.createDirectories(path.getParent());
+
+            Path tmp = Files.createTempFile(path.getParent(), name, ".tmp");
+            try {
+                try (Writer writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                    GSON.toJson(value, writer);
+                }
+                Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+
+            return true;
+        } catch (IOException | RuntimeException ex) {
+            LOG.log(Level.WARNING, "unable to write cache file " + path, ex);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.dlsc.jfxcentral.cache;
+
+import javafx.scene.image.Image;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A process-wide cache for decoded images, shared by all sessions. Images
+ * get stored per URL and requested size, so a list cell that only shows a
+ * small version of an image does not keep the fully decoded original in
+ * memory, and all cells and sessions showing the same image share a single
+ * instance. Images get loaded in the background, so concurrent requests
+ * for an image that is still loading receive the same instance instead of
+ * loading it again.
+ * <p>
+ * The cache evicts the least recently used images once the total size of
+ * the decoded pixels exceeds the maximum size, which can be configured via
+ * the system property "jfxcentral.images.cache.size" (megabytes). Evicted
+ * images stay alive for as long as they are shown somewhere. Hits, misses
+ * and evictions get counted and logged with level FINE. Images that fail to
+ * load do not stay in the cache.
+ */
+public final class ImageCache {
+
+    private static final Logger LOG = Logger.getLogger(ImageCache.class.getName());
+
+    // used for images that have not been decoded, yet
+    private static final long ESTIMATED_SIZE = 256 * 1024;
+
+    private static final ImageCache INSTANCE = new ImageCache(Long.getLong("jfxcentral.images.cache.size", 64) * 1024 * 1024);
+
+    private final long maxSize;
+
+    // access ordered, guarded by "this"
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, .75f, true);
+
+    // guarded by "this"
+    private long size;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private final AtomicLong evictions = new AtomicLong();
+
+    private ImageCache(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the cache shared by all sessions.
+     *
+     * @return the image cache
+     */
+    public static ImageCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the image with the given URL in its original size.
+     *
+     * @param url the URL of the image
+     * @return the shared image instance
+     */
+    public Image getImage(String url) {
+        return getImage(url, 0, 0);
+    }
+
+    /**
+     * Returns the image with the given URL, scaled down to the given size
+     * while decoding it. The aspect ratio of the image does not get
+     * preserved, the same way an image view that has a fit width and a fit
+     * height would not preserve it either.
+     *
+     * @param url    the URL of the image
+     * @param width  the requested width or zero for the original width
+     * @param height the requested height or zero for the original height
+     * @return the shared image instance
+     */
+    public Image getImage(String url, double width, double height) {
+        String key = url + "@" + width + "x" + height;
+
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                hits.incrementAndGet();
+                return entry.image;
+            }
+
+            misses.incrementAndGet();
+
+            Image image = new Image(url, width, height, false, true, true);
+
+            entry = new Entry(image, width > 0 && height > 0 ? (long) (width * height * 4) : ESTIMATED_SIZE);
+            entries.put(key, entry);
+            size += entry.size;
+
+            if (image.getProgress() >= 1 || image.isError()) {
+                updateSize(key, entry);
+            } else {
+                Entry loadingEntry = entry;
+                image.progressProperty().addListener(it -> {
+                    if (image.getProgress() >= 1) {
+                        updateSize(key, loadingEntry);
+                    }
+                });
+
+                // a failed image does not necessarily report any progress
+                image.errorProperty().addListener(it -> {
+                    if (image.isError()) {
+                        updateSize(key, loadingEntry);
+                    }
+                });
+            }
+
+            evict();
+
+            if (LOG.isLoggable(Level.FINE)) {
+                LOG.fine("image cache miss for " + key + ", " + this);
+            }
+
+            return image;
+        }
+    }
+
+    /*
+     * Replaces the estimated size of the entry with the size of the decoded
+     * pixels once the image has been loaded. Images that failed to load get
+     * removed, so the next request tries again.
+     */
+    private synchronized void updateSize(String key, Entry entry) {
+        if (entry.image.isError()) {
+            if (entry.cached) {
+                entries.remove(key);
+                entry.cached = false;
+                size -= entry.size;
+            }
+
+            if (LOG.isLoggable(Level.FINE)) {
+                LOG.fine("unable to load image " + key + ", removed it from the cache");
+            }
+            return;
+        }
+
+        long actualSize = (long) (entry.image.getWidth() * entry.image.getHeight() * 4);
+        if (actualSize == entry.size) {
+            return;
+        }
+
+        if (entry.cached) {
+            size += actualSize - entry.size;
+        }
+
+        entry.size = actualSize;
+
+        evict();
+    }
+
+    private void evict() {
+        Iterator<Entry> iterator = entries.values().iterator();
+
+        // never evict the entry that has just been added
+        while (size > maxSize && entries.size() > 1 && iterator.hasNext()) {
+            Entry eldest = iterator.next();
+            iterator.remove();
+            eldest.cached = false;
+            size -= eldest.size;
+            evictions.incrementAndGet();
+        }
+    }
+
+    /**
+     * Removes all images from the cache.
+     */
+    public synchronized void clear() {
+        entries.values().forEach(entry -> entry.cached = false);
+        entries.clear();
+        size = 0;
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    public synchronized long getSize() {
+        return size;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "images: " + entries.size() + ", size: " + (size / 1024) + " KB, hits: " + hits.get() + ", misses: " + misses.get() + ", evictions: " + evictions.get();
+    }
+
+    private static final class Entry {
+
+        private final Image image;
+
+        // guarded by the cache
+        private long size;
+
+        // guarded by the cache
+        private boolean cached = true;
+
+        Entry(Image image, long size) {
+            this.image = image;
+            this.size = size;
+        }
+    }
+}
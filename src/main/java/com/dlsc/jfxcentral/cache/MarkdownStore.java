@@ -0,0 +1,240 @@
+package com.dlsc.jfxcentral.cache;
+
+import com.dlsc.jfxcentral.data.DataRepository;
+import com.dlsc.jfxcentral.data.model.Book;
+import com.dlsc.jfxcentral.data.model.Company;
+import com.dlsc.jfxcentral.data.model.Download;
+import com.dlsc.jfxcentral.data.model.Library;
+import com.dlsc.jfxcentral.data.model.ModelObject;
+import com.dlsc.jfxcentral.data.model.Person;
+import com.dlsc.jfxcentral.data.model.RealWorldApp;
+import com.dlsc.jfxcentral.data.model.Tip;
+import com.dlsc.jfxcentral.data.model.Tool;
+import com.dlsc.jfxcentral.data.model.Tutorial;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyStringProperty;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.beans.property.StringProperty;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.nio.file.Files;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Provides the markdown texts (readmes, descriptions) of the model objects.
+ * The texts get read from the checkout of the data repository only when they
+ * are needed for the first time, on a background thread, and are then set
+ * on the returned property. Instead of keeping the texts of all objects in
+ * memory for as long as the application runs, the store only keeps the most
+ * recently used ones, up to a maximum number of characters, and the garbage
+ * collector may reclaim them when memory gets low.
+ * <p>
+ * Objects without a markdown file in the expected location fall back to the
+ * corresponding property of the {@link DataRepository}.
+ * <p>
+ * The maximum number of cached characters can be configured via the system
+ * property "jfxcentral.markdown.cache.size".
+ */
+public final class MarkdownStore {
+
+    private static final Logger LOG = Logger.getLogger(MarkdownStore.class.getName());
+
+    private static final MarkdownStore INSTANCE = new MarkdownStore(Integer.getInteger("jfxcentral.markdown.cache.size", 4_000_000));
+
+    private final long maxSize;
+
+    // access ordered, guarded by "this"
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, .75f, true);
+
+    // guarded by "this"
+    private long size;
+
+    // files that do not exist, their texts are provided by the data repository
+    private final Set<String> missing = ConcurrentHashMap.newKeySet();
+
+    private final ExecutorService executor;
+
+    private MarkdownStore(long maxSize) {
+        this.maxSize = maxSize;
+
+        AtomicInteger count = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("Markdown Loader Thread " + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the store shared by all sessions.
+     *
+     * @return the markdown store
+     */
+    public static MarkdownStore getInstance() {
+        return INSTANCE;
+    }
+
+    public ReadOnlyStringProperty personDescriptionProperty(Person person) {
+        return textProperty("people", person, () -> DataRepository.getInstance().personDescriptionProperty(person));
+    }
+
+    public ReadOnlyStringProperty companyDescriptionProperty(Company company) {
+        return textProperty("companies", company, () -> DataRepository.getInstance().companyDescriptionProperty(company));
+    }
+
+    public ReadOnlyStringProperty libraryReadMeProperty(Library library) {
+        return textProperty("libraries", library, () -> DataRepository.getInstance().libraryReadMeProperty(library));
+    }
+
+    public ReadOnlyStringProperty bookTextProperty(Book book) {
+        return textProperty("books", book, () -> DataRepository.getInstance().bookTextProperty(book));
+    }
+
+    public ReadOnlyStringProperty toolDescriptionProperty(Tool tool) {
+        return textProperty("tools", tool, () -> DataRepository.getInstance().toolDescriptionProperty(tool));
+    }
+
+    public ReadOnlyStringProperty tipDescriptionProperty(Tip tip) {
+        return textProperty("tips", tip, () -> DataRepository.getInstance().tipDescriptionProperty(tip));
+    }
+
+    public ReadOnlyStringProperty realWorldAppDescriptionProperty(RealWorldApp app) {
+        return textProperty("realworld", app, () -> DataRepository.getInstance().realWorldAppDescriptionProperty(app));
+    }
+
+    public ReadOnlyStringProperty downloadTextProperty(Download download) {
+        return textProperty("downloads", download, () -> DataRepository.getInstance().downloadTextProperty(download));
+    }
+
+    public ReadOnlyStringProperty tutorialTextProperty(Tutorial tutorial) {
+        return textProperty("tutorials", tutorial, () -> DataRepository.getInstance().tutorialTextProperty(tutorial));
+    }
+
+    /*
+     * Returns a new property for the readme of the given object. The property
+     * already contains the text if it is cached, otherwise it gets set as
+     * soon as the text has been read. Must be called on the JavaFX
+     * application thread.
+     */
+    private ReadOnlyStringProperty textProperty(String directory, ModelObject mo, Supplier<StringProperty> fallback) {
+        ReadOnlyStringWrapper property = new ReadOnlyStringWrapper(this, "text", "");
+
+        if (mo == null) {
+            return property.getReadOnlyProperty();
+        }
+
+        String path = directory + "/" + mo.getId() + "/readme.md";
+
+        if (missing.contains(path)) {
+            property.bind(fallback.get());
+            return property.getReadOnlyProperty();
+        }
+
+        String text = get(path);
+        if (text != null) {
+            property.set(text);
+        } else {
+            executor.execute(() -> {
+                String result = read(path);
+                Platform.runLater(() -> {
+                    if (result != null) {
+                        property.set(result);
+                    } else {
+                        property.bind(fallback.get());
+                    }
+                });
+            });
+        }
+
+        return property.getReadOnlyProperty();
+    }
+
+    private String read(String path) {
+        String text = get(path);
+        if (text != null) {
+            return text;
+        }
+
+        File file = new File(DataRepository.getInstance().getRepositoryDirectory(), path);
+        if (!file.isFile()) {
+            missing.add(path);
+            return null;
+        }
+
+        try {
+            text = Files.readString(file.toPath());
+            put(path, text);
+            return text;
+        } catch (IOException ex) {
+            LOG.log(Level.WARNING, "unable to read " + file, ex);
+            return null;
+        }
+    }
+
+    private synchronized String get(String path) {
+        Entry entry = entries.get(path);
+        if (entry == null) {
+            return null;
+        }
+
+        String text = entry.text.get();
+        if (text == null) {
+            // reclaimed by the garbage collector
+            entries.remove(path);
+            size -= entry.length;
+        }
+
+        return text;
+    }
+
+    private synchronized void put(String path, String text) {
+        Entry previous = entries.put(path, new Entry(text));
+        if (previous != null) {
+            size -= previous.length;
+        }
+        size += text.length();
+
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            Entry eldest = iterator.next().getValue();
+            iterator.remove();
+            size -= eldest.length;
+        }
+    }
+
+    /**
+     * Removes all texts, e.g. after the data has been reloaded.
+     */
+    public void clear() {
+        synchronized (this) {
+            entries.clear();
+            size = 0;
+        }
+        missing.clear();
+    }
+
+    private static final class Entry {
+
+        private final SoftReference<String> text;
+
+        private final int length;
+
+        Entry(String text) {
+            this.text = new SoftReference<>(text);
+            this.length = text.length();
+        }
+    }
+}
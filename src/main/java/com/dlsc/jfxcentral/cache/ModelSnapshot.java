@@ -0,0 +1,351 @@
+package com.dlsc.jfxcentral.cache;
+
+import com.dlsc.jfxcentral.data.DataRepository;
+import com.dlsc.jfxcentral.data.model.Blog;
+import com.dlsc.jfxcentral.data.model.Book;
+import com.dlsc.jfxcentral.data.model.Company;
+import com.dlsc.jfxcentral.data.model.Download;
+import com.dlsc.jfxcentral.data.model.Library;
+import com.dlsc.jfxcentral.data.model.LinksOfTheWeek;
+import com.dlsc.jfxcentral.data.model.ModelObject;
+import com.dlsc.jfxcentral.data.model.News;
+import com.dlsc.jfxcentral.data.model.Person;
+import com.dlsc.jfxcentral.data.model.RealWorldApp;
+import com.dlsc.jfxcentral.data.model.Tip;
+import com.dlsc.jfxcentral.data.model.Tool;
+import com.dlsc.jfxcentral.data.model.Tutorial;
+import com.dlsc.jfxcentral.data.model.Video;
+import com.fatboyindustrial.gsonjavatime.Converters;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.module.ModuleDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A snapshot of the model loaded by the {@link DataRepository}, stored on
+ * disk after a successful load and keyed by the commit of the data
+ * repository it was loaded from. When the application gets started again
+ * and the checkout is still at the same commit, the model gets restored
+ * from this single, compressed file instead of being loaded from the many
+ * files of the checkout.
+ * <p>
+ * A snapshot only gets used if it was written by the same snapshot format
+ * and the same build of the data library. The markdown texts are not part
+ * of the snapshot, the data repository loads them on demand anyway.
+ * <p>
+ * Restoring a snapshot does not call {@link DataRepository#loadData()}, it
+ * only replaces the lists of model objects and the recent items. This relies
+ * on loadData() not initializing any other state that this application
+ * reads. The texts of the pages (home, OpenJFX) and of the objects come from
+ * their own properties of the repository, and the loaded flag of the
+ * repository is not used by the application. Whenever the data library
+ * starts to initialize more state in loadData(), it has to be restored here
+ * as well.
+ */
+public final class ModelSnapshot {
+
+    private static final Logger LOG = Logger.getLogger(ModelSnapshot.class.getName());
+
+    private static final String FILE_NAME = "model-snapshot.json.gz";
+
+    // needs to be increased whenever the content of the snapshot changes
+    private static final int FORMAT = 1;
+
+    private static final Gson GSON = Converters.registerAll(new GsonBuilder()).create();
+
+    private ModelSnapshot() {
+    }
+
+    /**
+     * Restores the model from the snapshot if the snapshot was taken at the
+     * given commit. Replaces the lists of the data repository the same way
+     * loadData() would, without calling it.
+     *
+     * @param commit the commit the checkout of the data repository is at
+     * @return true if the model was restored, false if it has to be loaded
+     */
+    public static boolean restore(String commit) {
+        File file = CacheStore.getFile(FILE_NAME);
+        if (commit == null || !file.isFile()) {
+            return false;
+        }
+
+        long time = System.currentTimeMillis();
+
+        Content content;
+        try (Reader reader = new InputStreamReader(new GZIPInputStream(new BufferedInputStream(Files.newInputStream(file.toPath()))), StandardCharsets.UTF_8)) {
+            content = GSON.fromJson(reader, Content.class);
+        } catch (IOException | RuntimeException ex) {
+            LOG.log(Level.WARNING, "unable to read the model snapshot", ex);
+            return false;
+        }
+
+        if (content == null || content.format != FORMAT || !Objects.equals(content.commit, commit) || !Objects.equals(content.libraryVersion, getLibraryVersion())) {
+            LOG.info("model snapshot is outdated, loading the data");
+            return false;
+        }
+
+        DataRepository repository = DataRepository.getInstance();
+        repository.getPeople().setAll(content.people);
+        repository.getLibraries().setAll(content.libraries);
+        repository.getBooks().setAll(content.books);
+        repository.getBlogs().setAll(content.blogs);
+        repository.getVideos().setAll(content.videos);
+        repository.getTutorials().setAll(content.tutorials);
+        repository.getDownloads().setAll(content.downloads);
+        repository.getCompanies().setAll(content.companies);
+        repository.getTools().setAll(content.tools);
+        repository.getRealWorldApps().setAll(content.realWorldApps);
+        repository.getTips().setAll(content.tips);
+        repository.getNews().setAll(content.news);
+        repository.getLinksOfTheWeek().setAll(content.linksOfTheWeek);
+
+        // the recent items reference the objects restored above
+        Map<String, ModelObject> objects = new HashMap<>();
+        forEachObject(repository, mo -> objects.put(key(mo), mo));
+        List<ModelObject> recentItems = new ArrayList<>();
+        content.recentItems.forEach(key -> {
+            ModelObject mo = objects.get(key);
+            if (mo != null) {
+                recentItems.add(mo);
+            }
+        });
+        repository.getRecentItems().setAll(recentItems);
+
+        LOG.info("model restored from snapshot of commit " + commit + " in " + (System.currentTimeMillis() - time) + " ms");
+        return true;
+    }
+
+    /**
+     * Writes a snapshot of the currently loaded model in the background.
+     *
+     * @param commit the commit the model was loaded from
+     */
+    public static void writeInBackground(String commit) {
+        if (commit == null) {
+            return;
+        }
+
+        // copy the lists right away, the writing itself happens in the background
+        Content content = createContent(commit);
+
+        Thread thread = new Thread(() -> write(content));
+        thread.setName("Model Snapshot Thread");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private static Content createContent(String commit) {
+        DataRepository repository = DataRepository.getInstance();
+
+        Content content = new Content();
+        content.format = FORMAT;
+        content.commit = commit;
+        content.libraryVersion = getLibraryVersion();
+        content.people = new ArrayList<>(repository.getPeople());
+        content.libraries = new ArrayList<>(repository.getLibraries());
+        content.books = new ArrayList<>(repository.getBooks());
+        content.blogs = new ArrayList<>(repository.getBlogs());
+        content.videos = new ArrayList<>(repository.getVideos());
+        content.tutorials = new ArrayList<>(repository.getTutorials());
+        content.downloads = new ArrayList<>(repository.getDownloads());
+        content.companies = new ArrayList<>(repository.getCompanies());
+        content.tools = new ArrayList<>(repository.getTools());
+        content.realWorldApps = new ArrayList<>(repository.getRealWorldApps());
+        content.tips = new ArrayList<>(repository.getTips());
+        content.news = new ArrayList<>(repository.getNews());
+        content.linksOfTheWeek = new ArrayList<>(repository.getLinksOfTheWeek());
+        content.recentItems = new ArrayList<>();
+        new ArrayList<>(repository.getRecentItems()).forEach(mo -> content.recentItems.add(key(mo)));
+        return content;
+    }
+
+    private static void write(Content content) {
+        long time = System.currentTimeMillis();
+
+        Path path = CacheStore.getFile(FILE_NAME).toPath();
+
+        try {
+            Files.createDirectories(path.getParent());
+
+            Path tmp = Files.createTempFile(path.getParent(), FILE_NAME, ".tmp");
+            try {
+                try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp))), StandardCharsets.UTF_8)) {
+                    GSON.toJson(content, writer);
+                }
+                Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+
+            LOG.info("model snapshot of commit " + content.commit + " written in " + (System.currentTimeMillis() - time) + " ms");
+        } catch (IOException | RuntimeException ex) {
+            LOG.log(Level.WARNING, "unable to write the model snapshot", ex);
+        }
+    }
+
+    private static void forEachObject(DataRepository repository, Consumer<ModelObject> consumer) {
+        repository.getPeople().forEach(consumer);
+        repository.getLibraries().forEach(consumer);
+        repository.getBooks().forEach(consumer);
+        repository.getBlogs().forEach(consumer);
+        repository.getVideos().forEach(consumer);
+        repository.getTutorials().forEach(consumer);
+        repository.getDownloads().forEach(consumer);
+        repository.getCompanies().forEach(consumer);
+        repository.getTools().forEach(consumer);
+        repository.getRealWorldApps().forEach(consumer);
+        repository.getTips().forEach(consumer);
+        repository.getNews().forEach(consumer);
+        repository.getLinksOfTheWeek().forEach(consumer);
+    }
+
+    private static String key(ModelObject mo) {
+        return mo.getClass().getSimpleName() + ":" + mo.getId();
+    }
+
+    /*
+     * The model classes are part of the data library, a snapshot written by
+     * another version of the library might not match them anymore. Not every
+     * build of the library has a version (e.g. snapshot builds), so the key
+     * also contains the location, size, and modification time of the jar and
+     * a fingerprint of the fields of the model classes, which is what the
+     * snapshot actually depends on.
+     */
+    private static String getLibraryVersion() {
+        StringBuilder sb = new StringBuilder();
+
+        ModuleDescriptor descriptor = DataRepository.class.getModule().getDescriptor();
+        if (descriptor != null && descriptor.rawVersion().isPresent()) {
+            sb.append(descriptor.rawVersion().get());
+        } else {
+            sb.append(Objects.toString(DataRepository.class.getPackage().getImplementationVersion(), "unknown"));
+        }
+
+        CodeSource codeSource = DataRepository.class.getProtectionDomain().getCodeSource();
+        if (codeSource != null && codeSource.getLocation() != null) {
+            try {
+                File jar = new File(codeSource.getLocation().toURI());
+                sb.append("|").append(jar.getAbsolutePath()).append("|").append(jar.length()).append("|").append(jar.lastModified());
+            } catch (URISyntaxException | IllegalArgumentException ex) {
+                // not a file, e.g. a module inside a runtime image, the fingerprint below still applies
+                sb.append("|").append(codeSource.getLocation());
+            }
+        }
+
+        sb.append("|").append(getModelFingerprint());
+
+        return sb.toString();
+    }
+
+    /*
+     * A hash of the declared fields of all model classes stored in the
+     * snapshot, including their super classes. Gson fills these fields, so
+     * any change to them invalidates the snapshot.
+     */
+    private static String getModelFingerprint() {
+        List<String> fields = new ArrayList<>();
+
+        for (Field contentField : Content.class.getDeclaredFields()) {
+            if (!(contentField.getGenericType() instanceof ParameterizedType)) {
+                continue;
+            }
+
+            Type elementType = ((ParameterizedType) contentField.getGenericType()).getActualTypeArguments()[0];
+            if (!(elementType instanceof Class)) {
+                continue;
+            }
+
+            for (Class<?> type = (Class<?>) elementType; type != null && type != Object.class; type = type.getSuperclass()) {
+                for (Field field : type.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())) {
+                        fields.add(type.getName() + "." + field.getName() + ":" + field.getGenericType().getTypeName());
+                    }
+                }
+            }
+        }
+
+        Collections.sort(fields);
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(String.join("\n", fields).getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < 8; i++) {
+                sb.append(String.format("%02x", hash[i]));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException ex) {
+            // every Java platform has to support SHA-256
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static final class Content {
+
+        private int format;
+
+        private String commit;
+
+        private String libraryVersion;
+
+        private List<Person> people;
+
+        private List<Library> libraries;
+
+        private List<Book> books;
+
+        private List<Blog> blogs;
+
+        private List<Video> videos;
+
+        private List<Tutorial> tutorials;
+
+        private List<Download> downloads;
+
+        private List<Company> companies;
+
+        private List<Tool> tools;
+
+        private List<RealWorldApp> realWorldApps;
+
+        private List<Tip> tips;
+
+        private List<News> news;
+
+        private List<LinksOfTheWeek> linksOfTheWeek;
+
+        private List<String> recentItems;
+    }
+}
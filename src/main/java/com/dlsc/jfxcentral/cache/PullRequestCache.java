@@ -0,0 +1,174 @@
+package com.dlsc.jfxcentral.cache;
+
+import com.dlsc.jfxcentral.data.DataRepository;
+import com.dlsc.jfxcentral.data.pull.PullRequest;
+import com.google.gson.reflect.TypeToken;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A process-wide cache for the OpenJFX pull requests loaded from GitHub,
+ * shared by all sessions. The cache follows a stale-while-revalidate
+ * approach: the pull requests are always served right away, even when they
+ * are older than the maximum age, while a single background thread loads
+ * fresh ones and publishes them once they are available.
+ * <p>
+ * The pull requests also get stored on disk via the {@link CacheStore}, so
+ * after a restart of the server they are available immediately instead of
+ * only after the first request to GitHub has finished.
+ * <p>
+ * The maximum age can be configured via the system property
+ * "jfxcentral.pullrequests.maxage" (minutes).
+ */
+public final class PullRequestCache {
+
+    private static final Logger LOG = Logger.getLogger(PullRequestCache.class.getName());
+
+    private static final String FILE_NAME = "pull-requests.json";
+
+    private static final long CHECK_INTERVAL = Duration.ofMinutes(5).toMillis();
+
+    private static final long RETRY_DELAY = Duration.ofMinutes(15).toMillis();
+
+    private static final PullRequestCache INSTANCE = new PullRequestCache(Duration.ofMinutes(Long.getLong("jfxcentral.pullrequests.maxage", 180)));
+
+    private final long maxAge;
+
+    private final ScheduledExecutorService executor;
+
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    // only accessed on the JavaFX application thread
+    private final ReadOnlyObjectWrapper<List<PullRequest>> pullRequests = new ReadOnlyObjectWrapper<>(this, "pullRequests", Collections.emptyList());
+
+    // the following fields are only accessed by the executor thread
+    private long loadTime;
+
+    private long nextAttempt;
+
+    private PullRequestCache(Duration maxAge) {
+        this.maxAge = maxAge.toMillis();
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("Pull Request Cache Thread");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the cache shared by all sessions.
+     *
+     * @return the pull request cache
+     */
+    public static PullRequestCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Starts the cache: restores the pull requests stored on disk and then
+     * periodically checks whether they need to be refreshed. Calling this
+     * method more than once has no effect.
+     */
+    public void start() {
+        if (started.compareAndSet(false, true)) {
+            executor.execute(this::restore);
+            executor.scheduleWithFixedDelay(this::refreshIfStale, 0, CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Loads the pull requests again right away, no matter how old they are.
+     */
+    public void refresh() {
+        start();
+        executor.execute(this::load);
+    }
+
+    /**
+     * The pull requests currently known to the cache. The value gets
+     * replaced on the JavaFX application thread whenever fresh pull requests
+     * have been loaded.
+     *
+     * @return the immutable list of pull requests
+     */
+    public ReadOnlyObjectProperty<List<PullRequest>> pullRequestsProperty() {
+        return pullRequests.getReadOnlyProperty();
+    }
+
+    public List<PullRequest> getPullRequests() {
+        return pullRequests.get();
+    }
+
+    private void restore() {
+        Snapshot snapshot = CacheStore.read(FILE_NAME, new TypeToken<Snapshot>() {
+        }.getType());
+
+        if (snapshot != null && snapshot.pullRequests != null && !snapshot.pullRequests.isEmpty()) {
+            loadTime = snapshot.time;
+            publish(snapshot.pullRequests);
+            LOG.fine("restored " + snapshot.pullRequests.size() + " pull requests from disk");
+        }
+    }
+
+    private void refreshIfStale() {
+        long now = System.currentTimeMillis();
+        if (now - loadTime >= maxAge && now >= nextAttempt) {
+            load();
+        }
+    }
+
+    private void load() {
+        long now = System.currentTimeMillis();
+
+        try {
+            List<PullRequest> result = DataRepository.getInstance().loadPullRequests();
+
+            // an empty result usually means that GitHub could not be reached, keep serving the old ones
+            if (result == null || result.isEmpty()) {
+                LOG.warning("no pull requests received, will try again later");
+                nextAttempt = now + RETRY_DELAY;
+                return;
+            }
+
+            loadTime = now;
+            nextAttempt = 0;
+
+            publish(result);
+
+            Snapshot snapshot = new Snapshot();
+            snapshot.time = now;
+            snapshot.pullRequests = result;
+            CacheStore.write(FILE_NAME, snapshot);
+
+            LOG.fine("loaded " + result.size() + " pull requests in " + (System.currentTimeMillis() - now) + " ms");
+        } catch (RuntimeException ex) {
+            LOG.log(Level.WARNING, "unable to load the pull requests", ex);
+            nextAttempt = now + RETRY_DELAY;
+        }
+    }
+
+    private void publish(List<PullRequest> result) {
+        List<PullRequest> copy = List.copyOf(result);
+        Platform.runLater(() -> pullRequests.set(copy));
+    }
+
+    private static final class Snapshot {
+
+        private long time;
+
+        private List<PullRequest> pullRequests;
+    }
+}
@@ -0,0 +1,304 @@
+package com.dlsc.jfxcentral.cache;
+
+import com.dlsc.jfxcentral.data.DataRepository;
+import com.dlsc.jfxcentral.util.RepositoryChanges;
+import javafx.scene.image.Image;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Creates scaled down versions of the images of the data repository, so
+ * that views showing images at small sizes (e.g. the thumbnails of the
+ * library screenshots) do not have to load and decode the full resolution
+ * originals. The thumbnails get created in the background after each update
+ * of the repository, for each of the supported sizes, and are stored in a
+ * directory next to the checkout of the repository. Only images that have
+ * changed since the last update get processed again. The store remembers
+ * the commit the thumbnails were created for, so a restart without any new
+ * commits does not have to check all images again.
+ * <p>
+ * The longer edge of a thumbnail matches the size, images that are already
+ * smaller than a size do not get a thumbnail of that size. Views request the
+ * thumbnail for the size they need and receive the smallest thumbnail that
+ * is at least as large, or null if the original has to be used instead.
+ */
+public final class ThumbnailStore {
+
+    private static final Logger LOG = Logger.getLogger(ThumbnailStore.class.getName());
+
+    /**
+     * The sizes of the thumbnails (the length of their longer edge).
+     */
+    public static final int[] SIZES = {64, 128, 256};
+
+    private static final ThumbnailStore INSTANCE = new ThumbnailStore();
+
+    private final ExecutorService executor;
+
+    private ThumbnailStore() {
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("Thumbnail Thread");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the store shared by all sessions.
+     *
+     * @return the thumbnail store
+     */
+    public static ThumbnailStore getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the directory containing the thumbnails.
+     *
+     * @return the thumbnail directory
+     */
+    public File getDirectory() {
+        File repoDirectory = DataRepository.getInstance().getRepositoryDirectory();
+        return new File(repoDirectory.getAbsoluteFile().getParentFile(), repoDirectory.getName() + "-thumbnails");
+    }
+
+    /**
+     * Returns the thumbnail of the image with the given path, using the
+     * smallest thumbnail that is at least as large as the given size.
+     *
+     * @param path the path of the image relative to the root of the data repository, e.g. "libraries/gemsfx/images/filterview.png"
+     * @param size the length of the longer edge the image gets shown with
+     * @return the thumbnail or null if there is no suitable thumbnail
+     */
+    public Image getThumbnail(String path, double size) {
+        for (int thumbnailSize : SIZES) {
+            if (thumbnailSize >= size) {
+                File file = getThumbnailFile(path, thumbnailSize);
+                if (file.isFile()) {
+                    return ImageCache.getInstance().getImage(file.toURI().toString());
+                }
+                return null;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Updates the thumbnails of all images affected by the given changes of
+     * the data repository in the background.
+     *
+     * @param changes the changes pulled in by the last update of the repository
+     * @param commit  the commit the checkout is at after the update or null if unknown
+     */
+    public void updateInBackground(RepositoryChanges changes, String commit) {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        executor.execute(() -> update(changes, commit));
+    }
+
+    private void update(RepositoryChanges changes, String commit) {
+        long time = System.currentTimeMillis();
+
+        Path root = DataRepository.getInstance().getRepositoryDirectory().toPath();
+
+        List<String> paths;
+        if (changes.isAll()) {
+            // e.g. after a restart, the thumbnails are still up to date if the checkout has not moved
+            if (commit != null && commit.equals(readCommit())) {
+                LOG.fine("thumbnails are up to date with commit " + commit);
+                return;
+            }
+
+            try (Stream<Path> stream = Files.walk(root)) {
+                paths = stream.filter(Files::isRegularFile)
+                        .map(path -> root.relativize(path).toString().replace(File.separatorChar, '/'))
+                        .filter(path -> !path.startsWith(".git/") && isImage(path))
+                        .collect(Collectors.toList());
+            } catch (IOException ex) {
+                LOG.log(Level.WARNING, "unable to list the images of the repository", ex);
+                return;
+            }
+        } else {
+            paths = changes.getPaths().stream().filter(this::isImage).collect(Collectors.toList());
+        }
+
+        int count = 0;
+        for (String path : paths) {
+            if (update(root.resolve(path).toFile(), path)) {
+                count++;
+            }
+        }
+
+        if (count > 0) {
+            LOG.info("created thumbnails for " + count + " images in " + (System.currentTimeMillis() - time) + " ms");
+        }
+
+        writeCommit(commit);
+    }
+
+    /*
+     * The commit the thumbnails have been created for, stored inside the
+     * thumbnail directory, so that deleting the directory also forces a new
+     * scan of all images.
+     */
+    private String readCommit() {
+        File file = getCommitFile();
+        if (!file.isFile()) {
+            return null;
+        }
+
+        try {
+            return Files.readString(file.toPath()).trim();
+        } catch (IOException ex) {
+            LOG.log(Level.WARNING, "unable to read " + file, ex);
+            return null;
+        }
+    }
+
+    private void writeCommit(String commit) {
+        File file = getCommitFile();
+
+        try {
+            if (commit == null) {
+                Files.deleteIfExists(file.toPath());
+                return;
+            }
+
+            Files.createDirectories(file.toPath().getParent());
+            Files.writeString(file.toPath(), commit);
+        } catch (IOException ex) {
+            LOG.log(Level.WARNING, "unable to write " + file, ex);
+        }
+    }
+
+    private File getCommitFile() {
+        return new File(getDirectory(), "commit");
+    }
+
+    /*
+     * Creates the thumbnails of a single image, or deletes them if the image
+     * does not exist anymore. Returns true if thumbnails have been created.
+     */
+    private boolean update(File source, String path) {
+        if (!source.isFile()) {
+            for (int size : SIZES) {
+                getThumbnailFile(path, size).delete();
+            }
+            return false;
+        }
+
+        if (isUpToDate(source, path)) {
+            return false;
+        }
+
+        try {
+            BufferedImage image = ImageIO.read(source);
+            if (image == null) {
+                // not a format supported by ImageIO
+                return false;
+            }
+
+            for (int size : SIZES) {
+                File file = getThumbnailFile(path, size);
+                if (Math.max(image.getWidth(), image.getHeight()) > size) {
+                    write(scale(image, size), file);
+                } else {
+                    // the original is small enough already
+                    file.delete();
+                }
+            }
+
+            return true;
+        } catch (IOException | RuntimeException ex) {
+            LOG.log(Level.WARNING, "unable to create the thumbnails of " + path, ex);
+            return false;
+        }
+    }
+
+    private boolean isUpToDate(File source, String path) {
+        long lastModified = source.lastModified();
+        for (int size : SIZES) {
+            File file = getThumbnailFile(path, size);
+            if (file.isFile() && file.lastModified() < lastModified) {
+                return false;
+            }
+        }
+
+        // images smaller than the smallest size never get a thumbnail and are checked again each time
+        return getThumbnailFile(path, SIZES[0]).isFile();
+    }
+
+    private BufferedImage scale(BufferedImage image, int size) {
+        double scale = (double) size / Math.max(image.getWidth(), image.getHeight());
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        // halve the size in steps, otherwise the bilinear interpolation skips pixels
+        BufferedImage result = image;
+        int currentWidth = image.getWidth();
+        int currentHeight = image.getHeight();
+
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+
+            BufferedImage step = new BufferedImage(currentWidth, currentHeight, image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = step.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(result, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                g.dispose();
+            }
+
+            result = step;
+        } while (currentWidth != width || currentHeight != height);
+
+        return result;
+    }
+
+    private void write(BufferedImage image, File file) throws IOException {
+        Path target = file.toPath();
+        Files.createDirectories(target.getParent());
+
+        Path tmp = Files.createTempFile(target.getParent(), file.getName(), ".tmp");
+        try {
+            ImageIO.write(image, "png", tmp.toFile());
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private File getThumbnailFile(String path, int size) {
+        // always PNG, no matter what the format of the original is
+        return new File(getDirectory(), size + "/" + path + ".png");
+    }
+
+    private boolean isImage(String path) {
+        String name = path.toLowerCase(Locale.ROOT);
+        return name.endsWith(".png") || name.endsWith(".jpg") || name.endsWith(".jpeg") || name.endsWith(".gif");
+    }
+}
@@ -0,0 +1,245 @@
+package com.dlsc.jfxcentral.search;
+
+import com.dlsc.jfxcentral.data.model.ModelObject;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A JVM-wide cache for search results, shared by all sessions. The results
+ * are stored under the normalized query (lower case tokens separated by a
+ * single space), so "ControlsFX", "controlsfx " and "controlsFX" all map to
+ * the same entry. The cache evicts the least recently used entries when it
+ * is full and treats entries older than the configured time-to-live as
+ * missing.
+ * <p>
+ * Every entry remembers the {@link SearchIndex} that produced it. Entries of
+ * an index that is no longer current are ignored, so results can never be
+ * based on data from before a reload, even when a search was still running
+ * while the index got swapped. The cache also gets cleared explicitly after
+ * each reload to free the memory right away.
+ * <p>
+ * The size and the time-to-live can be configured via the system properties
+ * "jfxcentral.search.cache.size" and "jfxcentral.search.cache.ttl" (minutes).
+ */
+public final class SearchCache {
+
+    private static final SearchCache INSTANCE = new SearchCache(Integer.getInteger("jfxcentral.search.cache.size", 500), Duration.ofMinutes(Long.getLong("jfxcentral.search.cache.ttl", 30)));
+
+    private final int maxSize;
+
+    private final long timeToLive;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private final AtomicLong expirationCount = new AtomicLong();
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    // access ordered, guarded by "this"
+    private final LinkedHashMap<String, Entry> entries;
+
+    private SearchCache(int maxSize, Duration timeToLive) {
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLive.toMillis();
+
+        entries = new LinkedHashMap<>(16, .75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > SearchCache.this.maxSize) {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cache shared by all sessions.
+     *
+     * @return the search cache
+     */
+    public static SearchCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Normalizes the given query so that equivalent queries share the same
+     * cache entry.
+     *
+     * @param pattern the search pattern
+     * @return the normalized query
+     */
+    public static String normalize(String pattern) {
+        return String.join(" ", SearchIndex.tokenize(pattern));
+    }
+
+    /**
+     * Returns the cached results for the given pattern or performs the search
+     * on the current {@link SearchIndex} and caches its results.
+     *
+     * @param pattern the search pattern
+     * @return the immutable search results
+     */
+    public List<ModelObject> search(String pattern) {
+        List<ModelObject> result = get(pattern);
+        if (result == null) {
+            SearchIndex index = SearchIndex.getInstance();
+            result = put(pattern, index, index.search(pattern));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the cached results for the given pattern.
+     *
+     * @param pattern the search pattern
+     * @return the immutable search results or null if there are none
+     */
+    public List<ModelObject> get(String pattern) {
+        String key = normalize(pattern);
+        SearchIndex index = SearchIndex.getInstance();
+
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (entry.index != index) {
+                    entries.remove(key);
+                    invalidationCount.incrementAndGet();
+                } else if (System.currentTimeMillis() - entry.time > timeToLive) {
+                    entries.remove(key);
+                    expirationCount.incrementAndGet();
+                } else {
+                    hitCount.incrementAndGet();
+                    return entry.results;
+                }
+            }
+        }
+
+        missCount.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Stores the results found for the given pattern.
+     *
+     * @param pattern the search pattern
+     * @param index   the index that was used to find the results
+     * @param results the search results
+     * @return an immutable copy of the results
+     */
+    public List<ModelObject> put(String pattern, SearchIndex index, List<ModelObject> results) {
+        List<ModelObject> copy = List.copyOf(results);
+
+        // results of an outdated index are not worth keeping
+        if (index == SearchIndex.getInstance() && index.size() > 0) {
+            synchronized (this) {
+                entries.put(normalize(pattern), new Entry(index, copy));
+            }
+        }
+
+        return copy;
+    }
+
+    /**
+     * Removes all entries, e.g. after the data has been reloaded.
+     */
+    public void clear() {
+        synchronized (this) {
+            invalidationCount.addAndGet(entries.size());
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns the number of entries currently stored in the cache.
+     *
+     * @return the number of entries
+     */
+    public synchronized int getSize() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the number of entries after which the least recently used ones get evicted.
+     *
+     * @return the maximum number of entries
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the number of lookups that were answered by the cache.
+     *
+     * @return the number of hits
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Returns the number of lookups that were not answered by the cache, including expired and outdated entries.
+     *
+     * @return the number of misses
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Returns the number of entries removed because the cache was full.
+     *
+     * @return the number of evictions
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    /**
+     * Returns the number of entries dropped because they were older than the time-to-live.
+     *
+     * @return the number of expirations
+     */
+    public long getExpirationCount() {
+        return expirationCount.get();
+    }
+
+    /**
+     * Returns the number of entries removed because the data has been reloaded.
+     *
+     * @return the number of invalidations
+     */
+    public long getInvalidationCount() {
+        return invalidationCount.get();
+    }
+
+    /**
+     * Returns the ratio of lookups that could be answered by the cache.
+     *
+     * @return the hit rate between 0 and 1
+     */
+    public double getHitRate() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    private static final class Entry {
+
+        private final SearchIndex index;
+
+        private final List<ModelObject> results;
+
+        private final long time = System.currentTimeMillis();
+
+        Entry(SearchIndex index, List<ModelObject> results) {
+            this.index = index;
+            this.results = results;
+        }
+    }
+}
@@ -0,0 +1,573 @@
+package com.dlsc.jfxcentral.search;
+
+import com.dlsc.jfxcentral.data.DataRepository;
+import com.dlsc.jfxcentral.data.model.ModelObject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * An immutable, in-memory inverted index over all model objects of the
+ * {@link DataRepository}. The index gets built once after the data has been
+ * loaded and is then shared by all sessions / search fields. A refresh of
+ * the repository builds a new index and swaps it in atomically, so running
+ * searches always see a consistent snapshot.
+ * <p>
+ * Names, summaries, descriptions, and the names of referenced people and
+ * libraries get tokenized. A query token matches a term when it is equal to
+ * it, a prefix of it, or (for tokens with three or more characters) a
+ * substring of it. The latter case is resolved via a trigram index over the
+ * term dictionary. All query tokens have to match for an object to be part of
+ * the result, which is ranked by the accumulated weight of the matches.
+ *
+ * @see #rebuild()
+ * @see #search(String)
+ */
+public final class SearchIndex {
+
+    private static final Logger LOG = Logger.getLogger(SearchIndex.class.getName());
+
+    // weights of the different fields of a model object
+    private static final int NAME_WEIGHT = 8;
+    private static final int SUMMARY_WEIGHT = 3;
+    private static final int REFERENCE_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    // factors applied to the weight depending on how a query token matched a term
+    private static final int EXACT_FACTOR = 4;
+    private static final int PREFIX_FACTOR = 2;
+    private static final int INFIX_FACTOR = 1;
+
+    private static final int[] NO_TERMS = new int[0];
+
+    private static volatile SearchIndex instance = new SearchIndex(new ModelObject[0], new String[0], new int[0][], new int[0][], Collections.emptyMap(), new int[0][], new int[0][]);
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private final ModelObject[] objects;
+
+    // sorted term dictionary, postings[i] / weights[i] belong to terms[i]
+    private final String[] terms;
+    private final int[][] postings;
+    private final int[][] weights;
+
+    // trigram -> sorted indices into the term dictionary
+    private final Map<String, int[]> trigrams;
+
+    // forward index, docTerms[d] / docWeights[d] are the terms of objects[d]
+    private final int[][] docTerms;
+    private final int[][] docWeights;
+
+    private final Map<ModelObject, Integer> docIds;
+
+    private SearchIndex(ModelObject[] objects, String[] terms, int[][] postings, int[][] weights, Map<String, int[]> trigrams, int[][] docTerms, int[][] docWeights) {
+        this.objects = objects;
+        this.terms = terms;
+        this.postings = postings;
+        this.weights = weights;
+        this.trigrams = trigrams;
+        this.docTerms = docTerms;
+        this.docWeights = docWeights;
+
+        docIds = new IdentityHashMap<>(objects.length);
+        for (int doc = 0; doc < objects.length; doc++) {
+            docIds.put(objects[doc], doc);
+        }
+    }
+
+    /**
+     * Returns the index that is currently in use.
+     *
+     * @return the current index, never null
+     */
+    public static SearchIndex getInstance() {
+        return instance;
+    }
+
+    /**
+     * Builds a new index based on the current content of the data repository
+     * and makes it the current index. Needs to be called after each (re-)load
+     * of the data.
+     */
+    public static void rebuild() {
+        long time = System.currentTimeMillis();
+
+        DataRepository repository = DataRepository.getInstance();
+
+        List<ModelObject> objects = new ArrayList<>();
+        objects.addAll(repository.getPeople());
+        objects.addAll(repository.getLibraries());
+        objects.addAll(repository.getBooks());
+        objects.addAll(repository.getBlogs());
+        objects.addAll(repository.getVideos());
+        objects.addAll(repository.getTutorials());
+        objects.addAll(repository.getDownloads());
+        objects.addAll(repository.getCompanies());
+        objects.addAll(repository.getTools());
+        objects.addAll(repository.getRealWorldApps());
+        objects.addAll(repository.getTips());
+        objects.addAll(repository.getNews());
+
+        instance = build(objects);
+
+        LOG.info("search index built, " + instance.objects.length + " objects, " + instance.terms.length + " terms, " + (System.currentTimeMillis() - time) + " ms");
+    }
+
+    static SearchIndex build(Collection<? extends ModelObject> source) {
+        ModelObject[] objects = source.toArray(new ModelObject[0]);
+
+        DataRepository repository = DataRepository.getInstance();
+        Map<String, Postings> dictionary = new HashMap<>();
+
+        for (int doc = 0; doc < objects.length; doc++) {
+            ModelObject mo = objects[doc];
+
+            Map<String, Integer> docTerms = new HashMap<>();
+            addTerms(docTerms, mo.getName(), NAME_WEIGHT);
+            addTerms(docTerms, mo.getSummary(), SUMMARY_WEIGHT);
+            addTerms(docTerms, mo.getDescription(), DESCRIPTION_WEIGHT);
+
+            List<String> personIds = mo.getPersonIds();
+            if (personIds != null) {
+                personIds.forEach(id -> repository.getPersonById(id.trim()).ifPresent(person -> addTerms(docTerms, person.getName(), REFERENCE_WEIGHT)));
+            }
+
+            List<String> libraryIds = mo.getLibraryIds();
+            if (libraryIds != null) {
+                libraryIds.forEach(id -> repository.getLibraryById(id.trim()).ifPresent(library -> addTerms(docTerms, library.getName(), REFERENCE_WEIGHT)));
+            }
+
+            final int d = doc;
+            docTerms.forEach((term, weight) -> dictionary.computeIfAbsent(term, t -> new Postings()).add(d, weight));
+        }
+
+        String[] terms = dictionary.keySet().toArray(new String[0]);
+        Arrays.sort(terms);
+
+        int[][] postings = new int[terms.length][];
+        int[][] weights = new int[terms.length][];
+
+        Map<String, IntList> trigramBuilder = new HashMap<>();
+
+        Postings[] forward = new Postings[objects.length];
+        for (int doc = 0; doc < objects.length; doc++) {
+            forward[doc] = new Postings();
+        }
+
+        for (int i = 0; i < terms.length; i++) {
+            Postings p = dictionary.get(terms[i]);
+            postings[i] = Arrays.copyOf(p.docs.values, p.docs.size);
+            weights[i] = Arrays.copyOf(p.weights.values, p.weights.size);
+
+            for (int j = 0; j < p.docs.size; j++) {
+                forward[p.docs.values[j]].add(i, p.weights.values[j]);
+            }
+
+            String term = terms[i];
+            for (int j = 0; j + 3 <= term.length(); j++) {
+                IntList list = trigramBuilder.computeIfAbsent(term.substring(j, j + 3), t -> new IntList());
+                // the same trigram can occur several times inside a term
+                if (list.size == 0 || list.values[list.size - 1] != i) {
+                    list.add(i);
+                }
+            }
+        }
+
+        Map<String, int[]> trigrams = new HashMap<>(trigramBuilder.size() * 2);
+        trigramBuilder.forEach((trigram, list) -> trigrams.put(trigram, Arrays.copyOf(list.values, list.size)));
+
+        int[][] docTerms = new int[objects.length][];
+        int[][] docWeights = new int[objects.length][];
+        for (int doc = 0; doc < objects.length; doc++) {
+            docTerms[doc] = Arrays.copyOf(forward[doc].docs.values, forward[doc].docs.size);
+            docWeights[doc] = Arrays.copyOf(forward[doc].weights.values, forward[doc].weights.size);
+        }
+
+        return new SearchIndex(objects, terms, postings, weights, trigrams, docTerms, docWeights);
+    }
+
+    /**
+     * Returns the number of objects stored in this index.
+     *
+     * @return the number of indexed objects
+     */
+    public int size() {
+        return objects.length;
+    }
+
+    /**
+     * Performs a search for objects matching all tokens of the given
+     * pattern. The results are ordered by relevance.
+     *
+     * @param pattern the search pattern as entered by the user
+     * @return the matching objects, ranked by relevance
+     */
+    public List<ModelObject> search(String pattern) {
+        if (objects.length == 0) {
+            // the index has not been built, yet
+            return DataRepository.getInstance().search(pattern);
+        }
+
+        List<String> queryTokens = tokenize(pattern);
+        if (queryTokens.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Scratch scratch = SCRATCH.get();
+        scratch.ensureCapacity(objects.length);
+
+        try {
+            for (int q = 0; q < queryTokens.size(); q++) {
+                String token = queryTokens.get(q);
+
+                scratch.tokenHits.clear();
+
+                // exact and prefix matches, the dictionary is sorted
+                int start = Arrays.binarySearch(terms, token);
+                if (start < 0) {
+                    start = -start - 1;
+                }
+
+                for (int i = start; i < terms.length && terms[i].startsWith(token); i++) {
+                    collect(scratch, i, terms[i].length() == token.length() ? EXACT_FACTOR : PREFIX_FACTOR);
+                }
+
+                // infix matches
+                for (int i : findInfixTerms(token)) {
+                    collect(scratch, i, INFIX_FACTOR);
+                }
+
+                // only keep documents that matched all previous tokens, too
+                IntList hits = scratch.tokenHits;
+                for (int h = 0; h < hits.size; h++) {
+                    int doc = hits.values[h];
+                    if (scratch.matchCount[doc] == q) {
+                        if (q == 0) {
+                            scratch.touched.add(doc);
+                        }
+                        scratch.matchCount[doc]++;
+                        scratch.scores[doc] += scratch.tokenScores[doc];
+                    }
+                    scratch.tokenScores[doc] = 0;
+                }
+            }
+
+            int tokenCount = queryTokens.size();
+            List<Integer> docs = new ArrayList<>();
+            IntList touched = scratch.touched;
+            for (int t = 0; t < touched.size; t++) {
+                int doc = touched.values[t];
+                if (scratch.matchCount[doc] == tokenCount) {
+                    docs.add(doc);
+                }
+            }
+
+            return rank(docs, scratch.scores);
+        } finally {
+            scratch.reset();
+        }
+    }
+
+    /**
+     * Determines whether the results of the previous pattern can be narrowed
+     * down to the results of the new pattern via {@link #narrow(String, Collection)}.
+     * This is the case when the new pattern extends the previous one and all
+     * tokens of the previous pattern have been matched as prefixes and infixes.
+     * Tokens shorter than three characters are only matched as prefixes, so
+     * extending them could find terms that were not part of the previous result.
+     *
+     * @param previousPattern the pattern used for the previous search
+     * @param pattern         the new pattern
+     * @return true if the new results are guaranteed to be a subset of the previous ones
+     */
+    public static boolean canNarrow(String previousPattern, String pattern) {
+        if (previousPattern == null || pattern == null || !pattern.startsWith(previousPattern)) {
+            return false;
+        }
+
+        List<String> previousTokens = tokenize(previousPattern);
+        if (previousTokens.isEmpty()) {
+            return false;
+        }
+
+        for (String token : previousTokens) {
+            if (token.length() < 3) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Ranks the given candidates (usually the result of a previous search)
+     * against the given pattern and only keeps the ones matching all of its
+     * tokens. The cost only depends on the number of candidates, not on the
+     * size of the index.
+     *
+     * @param pattern    the new search pattern
+     * @param candidates the objects to filter
+     * @return the matching candidates, ranked by relevance, or null if one of
+     * the candidates is not part of this index (e.g. because the data has
+     * been reloaded in the meantime)
+     */
+    public List<ModelObject> narrow(String pattern, Collection<? extends ModelObject> candidates) {
+        List<String> queryTokens = tokenize(pattern);
+        if (queryTokens.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Scratch scratch = SCRATCH.get();
+        scratch.ensureCapacity(objects.length);
+
+        try {
+            List<Integer> docs = new ArrayList<>(candidates.size());
+
+            for (ModelObject candidate : candidates) {
+                Integer doc = docIds.get(candidate);
+                if (doc == null) {
+                    return null;
+                }
+
+                int score = 0;
+                for (String token : queryTokens) {
+                    int best = bestMatch(doc, token);
+                    if (best == 0) {
+                        score = 0;
+                        break;
+                    }
+                    score += best;
+                }
+
+                if (score > 0 && scratch.scores[doc] == 0) {
+                    scratch.touched.add(doc);
+                    scratch.scores[doc] = score;
+                    docs.add(doc);
+                }
+            }
+
+            return rank(docs, scratch.scores);
+        } finally {
+            scratch.reset();
+        }
+    }
+
+    /*
+     * Returns the highest weighted match of the given token among the terms
+     * of the given document, or 0 if the token does not match at all.
+     */
+    private int bestMatch(int doc, String token) {
+        int best = 0;
+        int[] termIndices = docTerms[doc];
+        for (int j = 0; j < termIndices.length; j++) {
+            String term = terms[termIndices[j]];
+            int factor;
+            if (term.startsWith(token)) {
+                factor = term.length() == token.length() ? EXACT_FACTOR : PREFIX_FACTOR;
+            } else if (token.length() >= 3 && term.contains(token)) {
+                factor = INFIX_FACTOR;
+            } else {
+                continue;
+            }
+            best = Math.max(best, docWeights[doc][j] * factor);
+        }
+        return best;
+    }
+
+    private List<ModelObject> rank(List<Integer> docs, int[] scores) {
+        docs.sort((a, b) -> {
+            int result = Integer.compare(scores[b], scores[a]);
+            if (result == 0) {
+                result = String.CASE_INSENSITIVE_ORDER.compare(nameOf(objects[a]), nameOf(objects[b]));
+            }
+            return result;
+        });
+
+        List<ModelObject> result = new ArrayList<>(docs.size());
+        for (Integer doc : docs) {
+            result.add(objects[doc]);
+        }
+
+        return result;
+    }
+
+    /*
+     * Adds the postings of the given term to the hits of the current query
+     * token. If a token matches several terms of the same document then only
+     * the best match counts.
+     */
+    private void collect(Scratch scratch, int term, int factor) {
+        int[] docs = postings[term];
+        int[] docWeights = weights[term];
+        for (int j = 0; j < docs.length; j++) {
+            int doc = docs[j];
+            int score = docWeights[j] * factor;
+            if (scratch.tokenScores[doc] == 0) {
+                scratch.tokenHits.add(doc);
+            }
+            if (score > scratch.tokenScores[doc]) {
+                scratch.tokenScores[doc] = score;
+            }
+        }
+    }
+
+    /*
+     * Returns the indices of all terms that contain the given token but do
+     * not start with it (those are already covered by the prefix lookup).
+     */
+    private int[] findInfixTerms(String token) {
+        if (token.length() < 3) {
+            return NO_TERMS;
+        }
+
+        int[] candidates = null;
+        for (int j = 0; j + 3 <= token.length(); j++) {
+            int[] list = trigrams.get(token.substring(j, j + 3));
+            if (list == null) {
+                return NO_TERMS;
+            }
+            candidates = candidates == null ? list : intersect(candidates, list);
+            if (candidates.length == 0) {
+                return NO_TERMS;
+            }
+        }
+
+        int count = 0;
+        int[] result = new int[candidates.length];
+        for (int i : candidates) {
+            String term = terms[i];
+            if (!term.startsWith(token) && term.contains(token)) {
+                result[count++] = i;
+            }
+        }
+
+        return Arrays.copyOf(result, count);
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[k++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, k);
+    }
+
+    private static String nameOf(ModelObject mo) {
+        String name = mo.getName();
+        return name != null ? name : "";
+    }
+
+    private static void addTerms(Map<String, Integer> docTerms, String text, int weight) {
+        for (String token : tokenize(text)) {
+            docTerms.merge(token, weight, Math::max);
+        }
+    }
+
+    /**
+     * Splits the given text into lower case tokens consisting of letters and
+     * digits.
+     *
+     * @param text the text to tokenize
+     * @return the tokens
+     */
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean letterOrDigit = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (letterOrDigit && start == -1) {
+                start = i;
+            } else if (!letterOrDigit && start != -1) {
+                tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+
+        return tokens;
+    }
+
+    /*
+     * Per-thread working memory of a query. Only the touched entries get
+     * cleared after each query, so searching does not allocate arrays
+     * proportional to the size of the index.
+     */
+    private static final class Scratch {
+
+        private int[] scores = new int[0];
+        private int[] tokenScores = new int[0];
+        private int[] matchCount = new int[0];
+
+        private final IntList touched = new IntList();
+        private final IntList tokenHits = new IntList();
+
+        void ensureCapacity(int size) {
+            if (scores.length < size) {
+                scores = new int[size];
+                tokenScores = new int[size];
+                matchCount = new int[size];
+            }
+        }
+
+        void reset() {
+            for (int t = 0; t < touched.size; t++) {
+                int doc = touched.values[t];
+                scores[doc] = 0;
+                matchCount[doc] = 0;
+            }
+            for (int h = 0; h < tokenHits.size; h++) {
+                tokenScores[tokenHits.values[h]] = 0;
+            }
+            touched.clear();
+            tokenHits.clear();
+        }
+    }
+
+    private static final class Postings {
+
+        private final IntList docs = new IntList();
+        private final IntList weights = new IntList();
+
+        void add(int doc, int weight) {
+            docs.add(doc);
+            weights.add(weight);
+        }
+    }
+
+    private static final class IntList {
+
+        private int[] values = new int[8];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void clear() {
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.dlsc.jfxcentral.util;
+
+import com.dlsc.gemsfx.FilterView;
+import com.dlsc.gemsfx.FilterView.Filter;
+import com.dlsc.jfxcentral.util.FacetIndex.Facet;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Evaluates the facet filters of a {@link FilterView} via bitwise operations.
+ * The bitsets of all selected facet filters get combined once per selection
+ * change: the facets of the same group are OR'ed, the groups are AND'ed, which
+ * matches the semantics of the filter view. Each facet filter then answers
+ * with the combined result, so testing an item only requires a single bit
+ * lookup no matter how many filters are selected or how many items there are.
+ * <p>
+ * Filters that are not facet filters (e.g. the time filters created by
+ * {@link FilterUtil}) are not affected and still get evaluated by the filter
+ * view itself. The filter view then combines their results with the one of
+ * the facet filters.
+ * <p>
+ * Instances are meant to be used on the JavaFX application thread, one per
+ * filter view.
+ *
+ * @param <T> the type of the filtered items
+ */
+public final class FacetFilterSupport<T> {
+
+    private final FilterView<T> filterView;
+
+    // the selection that was used for computing the combined bitset
+    private final List<Filter<T>> selection = new ArrayList<>();
+
+    private FacetIndex<T> combinedIndex;
+
+    private BitSet combined;
+
+    public FacetFilterSupport(FilterView<T> filterView) {
+        this.filterView = Objects.requireNonNull(filterView);
+    }
+
+    /**
+     * Creates filters for all facets of the given group of the index.
+     *
+     * @param index the facet index
+     * @param group the name of the group
+     * @return the filters
+     */
+    public List<Filter<T>> createFilters(FacetIndex<T> index, String group) {
+        List<Facet<T>> facets = index.getFacets(group);
+        List<Filter<T>> filters = new ArrayList<>(facets.size());
+        facets.forEach(facet -> filters.add(new FacetFilter(index, group, facet)));
+        return filters;
+    }
+
+    /*
+     * Returns the combined bitset of the currently selected facet filters of
+     * the given index or null if it can not be used for the index. The filter
+     * view might evaluate the filters before any listener of ours gets
+     * informed about a selection change, hence the selection gets compared
+     * instead (it only contains a handful of filters).
+     */
+    private BitSet getCombined(FacetIndex<T> index) {
+        if (!isSelectionUnchanged()) {
+            combine();
+        }
+        return index == combinedIndex ? combined : null;
+    }
+
+    private boolean isSelectionUnchanged() {
+        List<Filter<T>> filters = filterView.getFilters();
+        if (filters.size() != selection.size()) {
+            return false;
+        }
+        for (int i = 0; i < filters.size(); i++) {
+            if (filters.get(i) != selection.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void combine() {
+        selection.clear();
+        selection.addAll(filterView.getFilters());
+
+        combinedIndex = null;
+        combined = null;
+
+        Map<String, BitSet> groups = new LinkedHashMap<>();
+
+        for (Filter<T> filter : selection) {
+            if (!(filter instanceof FacetFilterSupport.FacetFilter)) {
+                continue;
+            }
+
+            @SuppressWarnings("unchecked")
+            FacetFilter facetFilter = (FacetFilter) filter;
+            if (facetFilter.getSupport() != this) {
+                continue;
+            }
+
+            if (combinedIndex == null) {
+                combinedIndex = facetFilter.index;
+            } else if (combinedIndex != facetFilter.index) {
+                // filters of an outdated index, they get evaluated individually
+                continue;
+            }
+
+            groups.computeIfAbsent(facetFilter.group, g -> new BitSet()).or(facetFilter.facet.getItems());
+        }
+
+        for (BitSet bits : groups.values()) {
+            if (combined == null) {
+                combined = (BitSet) bits.clone();
+            } else {
+                combined.and(bits);
+            }
+        }
+    }
+
+    private final class FacetFilter extends Filter<T> {
+
+        private final FacetIndex<T> index;
+
+        private final String group;
+
+        private final Facet<T> facet;
+
+        FacetFilter(FacetIndex<T> index, String group, Facet<T> facet) {
+            super(facet.getLabel());
+            this.index = index;
+            this.group = group;
+            this.facet = facet;
+        }
+
+        FacetFilterSupport<T> getSupport() {
+            return FacetFilterSupport.this;
+        }
+
+        private boolean isSelected() {
+            for (Filter<T> filter : selection) {
+                if (filter == this) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean test(T item) {
+            int position = index.indexOf(item);
+            if (position == -1) {
+                return facet.matches(item);
+            }
+
+            BitSet bits = getCombined(index);
+            if (bits != null && isSelected()) {
+                return bits.get(position);
+            }
+
+            return facet.contains(position);
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.dlsc.jfxcentral.util;
+
+import com.dlsc.gemsfx.FilterView.Filter;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * An immutable index over a list of items that stores the distinct values
+ * ("facets") of one or more attributes together with the positions of the
+ * items having them. Facet indices get computed once per data load and are
+ * then shared by all sessions, which only need to create lightweight
+ * {@link Filter} instances for the facets instead of scanning the whole
+ * item list again.
+ *
+ * @param <T> the type of the items
+ * @see FilterSnapshot
+ */
+public final class FacetIndex<T> {
+
+    private final List<T> items;
+
+    private final Map<T, Integer> positions;
+
+    private final Map<String, List<Facet<T>>> groups;
+
+    private FacetIndex(List<T> items, Map<String, List<Facet<T>>> groups) {
+        this.items = items;
+        this.groups = groups;
+
+        positions = new IdentityHashMap<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            positions.put(items.get(i), i);
+        }
+    }
+
+    /**
+     * Returns the items in the order used for the item positions.
+     *
+     * @return the indexed items
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Returns the position of the given item.
+     *
+     * @param item the item
+     * @return the position or -1 if the item is not part of this index
+     */
+    public int indexOf(T item) {
+        Integer position = positions.get(item);
+        return position != null ? position : -1;
+    }
+
+    /**
+     * Returns the facets of the given group, in the order in which they
+     * should be shown.
+     *
+     * @param group the name of the group
+     * @return the facets of the group
+     */
+    public List<Facet<T>> getFacets(String group) {
+        return groups.getOrDefault(group, Collections.emptyList());
+    }
+
+    /**
+     * Creates new filters for all facets of the given group.
+     *
+     * @param group the name of the group
+     * @return the filters
+     */
+    public List<Filter<T>> createFilters(String group) {
+        List<Facet<T>> facets = getFacets(group);
+        List<Filter<T>> filters = new ArrayList<>(facets.size());
+        facets.forEach(facet -> filters.add(facet.createFilter(this)));
+        return filters;
+    }
+
+    /**
+     * Creates a builder for an index over the given items.
+     *
+     * @param items the items to index
+     * @param <T>   the type of the items
+     * @return the builder
+     */
+    public static <T> Builder<T> builder(Collection<? extends T> items) {
+        return new Builder<>(items);
+    }
+
+    /**
+     * A distinct value of an attribute, e.g. a speaker of a video, together
+     * with the positions of all items that have this value.
+     *
+     * @param <T> the type of the items
+     */
+    public static final class Facet<T> {
+
+        private final String key;
+
+        private final String label;
+
+        private final BitSet items;
+
+        private final BiPredicate<T, String> matcher;
+
+        private Facet(String key, String label, BitSet items, BiPredicate<T, String> matcher) {
+            this.key = key;
+            this.label = label;
+            this.items = items;
+            this.matcher = matcher;
+        }
+
+        /**
+         * Returns the value of the attribute, e.g. the ID of a person.
+         *
+         * @return the key of the facet
+         */
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * Returns the human-readable name of the facet, e.g. the name of a person.
+         *
+         * @return the label shown to the user
+         */
+        public String getLabel() {
+            return label;
+        }
+
+        /**
+         * Returns the number of items having this facet.
+         *
+         * @return the item count
+         */
+        public int getItemCount() {
+            return items.cardinality();
+        }
+
+        /**
+         * Determines whether the item at the given position has this facet.
+         *
+         * @param position the position of the item inside the index
+         * @return true if the item has this facet
+         */
+        public boolean contains(int position) {
+            return items.get(position);
+        }
+
+        BitSet getItems() {
+            return items;
+        }
+
+        /**
+         * Determines directly whether the given item has this facet, without
+         * using the positions stored in the index.
+         *
+         * @param item the item
+         * @return true if the item has this facet
+         */
+        public boolean matches(T item) {
+            return matcher.test(item, key);
+        }
+
+        /**
+         * Creates a filter for this facet. Items that are not part of the
+         * index (e.g. because the data got reloaded in the meantime) are
+         * checked directly.
+         *
+         * @param index the index owning this facet
+         * @return a new filter
+         */
+        public Filter<T> createFilter(FacetIndex<T> index) {
+            return new Filter<>(label) {
+                @Override
+                public boolean test(T item) {
+                    int position = index.indexOf(item);
+                    if (position != -1) {
+                        return items.get(position);
+                    }
+                    return matches(item);
+                }
+            };
+        }
+    }
+
+    /**
+     * A builder for facet indices.
+     *
+     * @param <T> the type of the items
+     */
+    public static final class Builder<T> {
+
+        private final List<T> items;
+
+        private final Map<String, List<Facet<T>>> groups = new LinkedHashMap<>();
+
+        private Builder(Collection<? extends T> items) {
+            this.items = Collections.unmodifiableList(new ArrayList<>(items));
+        }
+
+        /**
+         * Adds a group of facets. The keys of the facets are the distinct
+         * values returned by the key provider for all items. The matcher
+         * decides which items belong to a facet. It gets evaluated once for
+         * every item and facet when the index gets built.
+         *
+         * @param group      the name of the group
+         * @param keys       returns the keys of the given item, may return null
+         * @param labels     returns the label for a key or null if the key should be skipped
+         * @param matcher    determines whether an item belongs to the facet with the given key
+         * @param comparator the order of the facets or null to keep the order in which the keys were found
+         * @return the builder
+         */
+        public Builder<T> addGroup(String group, Function<T, Collection<String>> keys, Function<String, String> labels, BiPredicate<T, String> matcher, Comparator<Facet<T>> comparator) {
+            Set<String> distinctKeys = new LinkedHashSet<>();
+            for (T item : items) {
+                Collection<String> itemKeys = keys.apply(item);
+                if (itemKeys != null) {
+                    distinctKeys.addAll(itemKeys);
+                }
+            }
+
+            List<Facet<T>> facets = new ArrayList<>(distinctKeys.size());
+            for (String key : distinctKeys) {
+                String label = labels.apply(key);
+                if (label == null) {
+                    continue;
+                }
+
+                BitSet bits = new BitSet(items.size());
+                for (int i = 0; i < items.size(); i++) {
+                    if (matcher.test(items.get(i), key)) {
+                        bits.set(i);
+                    }
+                }
+
+                facets.add(new Facet<>(key, label, bits, matcher));
+            }
+
+            if (comparator != null) {
+                facets.sort(comparator);
+            }
+
+            groups.put(group, Collections.unmodifiableList(facets));
+            return this;
+        }
+
+        public FacetIndex<T> build() {
+            return new FacetIndex<>(items, Collections.unmodifiableMap(groups));
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.dlsc.jfxcentral.util;
+
+import com.dlsc.jfxcentral.data.DataRepository;
+import com.dlsc.jfxcentral.data.model.Company;
+import com.dlsc.jfxcentral.data.model.Download;
+import com.dlsc.jfxcentral.data.model.Library;
+import com.dlsc.jfxcentral.data.model.News;
+import com.dlsc.jfxcentral.data.model.Person;
+import com.dlsc.jfxcentral.data.model.Video;
+import com.dlsc.jfxcentral.util.FacetIndex.Facet;
+import javafx.beans.InvalidationListener;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.StringTokenizer;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * The facets used by the filter views of the detail pages, computed once per
+ * data load and shared by all sessions. Opening a page only requires the
+ * creation of the filter objects for the precomputed facets instead of a
+ * complete scan of the data (which used to be quadratic because of the list
+ * based de-duplication).
+ * <p>
+ * The snapshot gets rebuilt after each reload of the data, or lazily on the
+ * next access when one of the underlying lists of the {@link DataRepository}
+ * has changed.
+ */
+public final class FilterSnapshot {
+
+    private static final Logger LOG = Logger.getLogger(FilterSnapshot.class.getName());
+
+    public static final String TYPES = "types";
+    public static final String EVENTS = "events";
+    public static final String PERSONS = "persons";
+    public static final String PLATFORMS = "platforms";
+    public static final String DOMAINS = "domains";
+    public static final String LIBRARIES = "libraries";
+    public static final String COMPANIES = "companies";
+
+    private static FilterSnapshot instance;
+
+    private static volatile boolean dirty;
+
+    private static final InvalidationListener DIRTY_LISTENER = it -> dirty = true;
+
+    static {
+        DataRepository repository = DataRepository.getInstance();
+        repository.videosProperty().addListener(DIRTY_LISTENER);
+        repository.newsProperty().addListener(DIRTY_LISTENER);
+        repository.downloadsProperty().addListener(DIRTY_LISTENER);
+        repository.peopleProperty().addListener(DIRTY_LISTENER);
+        repository.librariesProperty().addListener(DIRTY_LISTENER);
+        repository.companiesProperty().addListener(DIRTY_LISTENER);
+    }
+
+    private final FacetIndex<Video> videos;
+
+    private final FacetIndex<News> news;
+
+    private final FacetIndex<Download> downloads;
+
+    private FilterSnapshot(FacetIndex<Video> videos, FacetIndex<News> news, FacetIndex<Download> downloads) {
+        this.videos = videos;
+        this.news = news;
+        this.downloads = downloads;
+    }
+
+    /**
+     * Returns the current snapshot. Builds a new one if the data has changed
+     * since the last call.
+     *
+     * @return the current snapshot
+     */
+    public static synchronized FilterSnapshot getInstance() {
+        if (instance == null || dirty) {
+            rebuild();
+        }
+        return instance;
+    }
+
+    /**
+     * Builds a new snapshot based on the current content of the data
+     * repository, no matter if the data has changed or not.
+     */
+    public static synchronized void rebuild() {
+        long time = System.currentTimeMillis();
+
+        dirty = false;
+
+        DataRepository repository = DataRepository.getInstance();
+        instance = new FilterSnapshot(buildVideos(repository), buildNews(repository), buildDownloads(repository));
+
+        LOG.fine("filter snapshot built in " + (System.currentTimeMillis() - time) + " ms");
+    }
+
+    public FacetIndex<Video> getVideos() {
+        return videos;
+    }
+
+    public FacetIndex<News> getNews() {
+        return news;
+    }
+
+    public FacetIndex<Download> getDownloads() {
+        return downloads;
+    }
+
+    private static FacetIndex<Video> buildVideos(DataRepository repository) {
+        return FacetIndex.builder(repository.getVideos())
+                .addGroup(TYPES, video -> tokens(video.getType()), key -> key, (video, key) -> StringUtils.containsIgnoreCase(video.getType(), key), byKey())
+                .addGroup(EVENTS, video -> tokens(video.getEvent()), key -> key, (video, key) -> StringUtils.containsIgnoreCase(video.getEvent(), key), byKey())
+                .addGroup(PERSONS, video -> trimmed(video.getPersonIds()), personName(repository), (video, key) -> contains(video.getPersonIds(), key), byLabel())
+                .addGroup(PLATFORMS, video -> tokens(video.getPlatform()), key -> key, (video, key) -> StringUtils.containsIgnoreCase(video.getPlatform(), key), byKey())
+                .addGroup(DOMAINS, video -> tokens(video.getDomain()), key -> key, (video, key) -> StringUtils.containsIgnoreCase(video.getDomain(), key), byKey())
+                .build();
+    }
+
+    private static FacetIndex<News> buildNews(DataRepository repository) {
+        return FacetIndex.builder(repository.getNews())
+                .addGroup(TYPES, news -> news.getType() != null ? Collections.singletonList(news.getType().name()) : null,
+                        key -> StringUtils.capitalize(key.toLowerCase()),
+                        (news, key) -> news.getType() != null && Objects.equals(news.getType().name(), key),
+                        Comparator.comparing(facet -> News.Type.valueOf(facet.getKey())))
+                .addGroup(PERSONS, news -> trimmed(news.getPersonIds()), personName(repository), (news, key) -> contains(news.getPersonIds(), key), byLabel())
+                .addGroup(LIBRARIES, news -> trimmed(news.getLibraryIds()), key -> repository.getLibraryById(key).map(Library::getName).orElse(null), (news, key) -> contains(news.getLibraryIds(), key), byLabel())
+                .build();
+    }
+
+    private static FacetIndex<Download> buildDownloads(DataRepository repository) {
+        return FacetIndex.builder(repository.getDownloads())
+                .addGroup(PERSONS, download -> trimmed(download.getPersonIds()), personName(repository), (download, key) -> contains(download.getPersonIds(), key), byLabel())
+                .addGroup(COMPANIES, download -> trimmed(download.getCompanyIds()), key -> repository.getCompanyById(key).map(Company::getName).orElse(null), (download, key) -> contains(download.getCompanyIds(), key), byLabel())
+                .build();
+    }
+
+    private static Function<String, String> personName(DataRepository repository) {
+        return key -> repository.getPersonById(key).map(Person::getName).orElse(null);
+    }
+
+    private static <T> Comparator<Facet<T>> byKey() {
+        return Comparator.comparing(Facet::getKey);
+    }
+
+    private static <T> Comparator<Facet<T>> byLabel() {
+        return Comparator.comparing(facet -> facet.getLabel().toLowerCase());
+    }
+
+    /*
+     * Splits comma separated values, e.g. "Devoxx, JavaOne".
+     */
+    private static List<String> tokens(String value) {
+        if (StringUtils.isBlank(value)) {
+            return null;
+        }
+
+        List<String> result = new ArrayList<>();
+        StringTokenizer st = new StringTokenizer(value, ",");
+        while (st.hasMoreTokens()) {
+            result.add(st.nextToken().trim());
+        }
+        return result;
+    }
+
+    private static boolean contains(List<String> ids, String key) {
+        return ids != null && ids.contains(key);
+    }
+
+    private static List<String> trimmed(Collection<String> ids) {
+        if (ids == null) {
+            return null;
+        }
+
+        List<String> result = new ArrayList<>(ids.size());
+        ids.forEach(id -> result.add(id.trim()));
+        return result;
+    }
+}
@@ -6,77 +6,127 @@ import javafx.util.Callback;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.LocalTime;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.TemporalAdjusters;
 import java.time.temporal.WeekFields;
 import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 public class FilterUtil {
 
+    private static final DayOfWeek FIRST_DAY_OF_WEEK = WeekFields.of(Locale.UK).getFirstDayOfWeek();
+
+    private static final int TODAY = 0;
+    private static final int THIS_WEEK = 1;
+    private static final int THIS_MONTH = 2;
+    private static final int LAST_MONTH = 3;
+    private static final int THIS_YEAR = 4;
+    private static final int LAST_YEAR = 5;
+
+    // marks items without a time
+    private static final long NO_TIME = Long.MIN_VALUE;
+
     public static final <T> void createFilters(FilterGroup<T> group, String title, Callback<T, ZonedDateTime> timeCallback) {
-        Filter<T> createdToday = new Filter<>("Today") {
-            @Override
-            public boolean test(T item) {
-                ZonedDateTime zonedDateTime = timeCallback.call(item);
-                if (zonedDateTime != null) {
-                    return zonedDateTime.toLocalDate().equals(LocalDate.now());
-                }
+        TimeRanges<T> ranges = new TimeRanges<>(timeCallback);
+
+        group.getFilters().setAll(
+                new TimeRangeFilter<>("Today", ranges, TODAY),
+                new TimeRangeFilter<>("This Week", ranges, THIS_WEEK),
+                new TimeRangeFilter<>("This Month", ranges, THIS_MONTH),
+                new TimeRangeFilter<>("Last Month", ranges, LAST_MONTH),
+                new TimeRangeFilter<>("This Year", ranges, THIS_YEAR),
+                new TimeRangeFilter<>("Last Year", ranges, LAST_YEAR));
+    }
+
+    private static final class TimeRangeFilter<T> extends Filter<T> {
+
+        private final TimeRanges<T> ranges;
+
+        private final int range;
+
+        TimeRangeFilter(String name, TimeRanges<T> ranges, int range) {
+            super(name);
+            this.ranges = ranges;
+            this.range = range;
+        }
+
+        @Override
+        public boolean test(T item) {
+            return ranges.contains(range, item);
+        }
+    }
+
+    /*
+     * The bounds of all time ranges (as epoch seconds, start inclusive, end
+     * exclusive) shared by the filters of one group. They only change at
+     * midnight, so they get computed once per day instead of once per test.
+     * The time of each item gets converted only once, too. Filters are used
+     * on the JavaFX application thread only.
+     */
+    private static final class TimeRanges<T> {
+
+        private final Callback<T, ZonedDateTime> timeCallback;
+
+        private final Map<T, Long> times = new WeakHashMap<>();
+
+        private final long[] starts = new long[6];
+
+        private final long[] ends = new long[6];
+
+        private long validUntil = Long.MIN_VALUE;
+
+        TimeRanges(Callback<T, ZonedDateTime> timeCallback) {
+            this.timeCallback = timeCallback;
+        }
+
+        boolean contains(int range, T item) {
+            long time = getTime(item);
+            if (time == NO_TIME) {
                 return false;
             }
-        };
-
-        Filter<T> createdThisWeek = new Filter<>("This Week") {
-            @Override
-            public boolean test(T item) {
-                DayOfWeek firstDayOfWeek = WeekFields.of(Locale.UK).getFirstDayOfWeek();
-                ZonedDateTime st = ZonedDateTime.now().with(firstDayOfWeek).with(LocalTime.MIN);
-                ZonedDateTime et = st.plusDays(6).with(LocalTime.MAX);
-                ZonedDateTime date = timeCallback.call(item);
-                return date != null && !date.isBefore(st) && !date.isAfter(et);
-            }
-        };
-
-        Filter<T> createdThisMonth = new Filter<>("This Month") {
-            @Override
-            public boolean test(T item) {
-                ZonedDateTime st = ZonedDateTime.now().with(TemporalAdjusters.firstDayOfMonth()).with(LocalTime.MIN);
-                ZonedDateTime et = ZonedDateTime.now().with(TemporalAdjusters.lastDayOfMonth()).with(LocalTime.MAX);
-                ZonedDateTime date = timeCallback.call(item);
-                return date != null && !date.isBefore(st) && !date.isAfter(et);
-            }
-        };
-
-        Filter<T> createdLastMonth = new Filter<>("Last Month") {
-            @Override
-            public boolean test(T item) {
-                ZonedDateTime st = ZonedDateTime.now().minusMonths(1).with(TemporalAdjusters.firstDayOfMonth()).with(LocalTime.MIN);
-                ZonedDateTime et = ZonedDateTime.now().minusMonths(1).with(TemporalAdjusters.lastDayOfMonth()).with(LocalTime.MAX);
-                ZonedDateTime date = timeCallback.call(item);
-                return date != null && !date.isBefore(st) && !date.isAfter(et);
-            }
-        };
-
-        Filter<T> createdThisYear = new Filter<>("This Year") {
-            @Override
-            public boolean test(T item) {
-                ZonedDateTime st = ZonedDateTime.now().with(TemporalAdjusters.firstDayOfYear()).with(LocalTime.MIN);
-                ZonedDateTime et = ZonedDateTime.now().with(TemporalAdjusters.lastDayOfYear()).with(LocalTime.MAX);
-                ZonedDateTime date = timeCallback.call(item);
-                return date != null && !date.isBefore(st) && !date.isAfter(et);
+
+            if (System.currentTimeMillis() >= validUntil) {
+                update();
             }
-        };
-
-        Filter<T> createdLastYear = new Filter<>("Last Year") {
-            @Override
-            public boolean test(T item) {
-                ZonedDateTime st = ZonedDateTime.now().minusYears(1).with(TemporalAdjusters.firstDayOfYear()).with(LocalTime.MIN);
-                ZonedDateTime et = ZonedDateTime.now().minusYears(1).with(TemporalAdjusters.lastDayOfYear()).with(LocalTime.MAX);
-                ZonedDateTime date = timeCallback.call(item);
-                return date != null && !date.isBefore(st) && !date.isAfter(et);
+
+            return time >= starts[range] && time < ends[range];
+        }
+
+        private long getTime(T item) {
+            Long time = times.get(item);
+            if (time == null) {
+                ZonedDateTime dateTime = timeCallback.call(item);
+                time = dateTime != null ? dateTime.toEpochSecond() : NO_TIME;
+                times.put(item, time);
             }
-        };
+            return time;
+        }
+
+        private void update() {
+            ZoneId zone = ZoneId.systemDefault();
+            LocalDate today = LocalDate.now(zone);
+
+            set(TODAY, today, today.plusDays(1), zone);
+
+            LocalDate startOfWeek = today.with(TemporalAdjusters.previousOrSame(FIRST_DAY_OF_WEEK));
+            set(THIS_WEEK, startOfWeek, startOfWeek.plusWeeks(1), zone);
+
+            LocalDate startOfMonth = today.withDayOfMonth(1);
+            set(THIS_MONTH, startOfMonth, startOfMonth.plusMonths(1), zone);
+            set(LAST_MONTH, startOfMonth.minusMonths(1), startOfMonth, zone);
+
+            LocalDate startOfYear = today.withDayOfYear(1);
+            set(THIS_YEAR, startOfYear, startOfYear.plusYears(1), zone);
+            set(LAST_YEAR, startOfYear.minusYears(1), startOfYear, zone);
+
+            validUntil = today.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        }
 
-        group.getFilters().setAll(createdToday, createdThisWeek, createdThisMonth, createdLastMonth, createdThisYear, createdLastYear);
+        private void set(int range, LocalDate start, LocalDate end, ZoneId zone) {
+            starts[range] = start.atStartOfDay(zone).toEpochSecond();
+            ends[range] = end.atStartOfDay(zone).toEpochSecond();
+        }
     }
 }
@@ -0,0 +1,167 @@
+package com.dlsc.jfxcentral.util;
+
+import org.eclipse.jgit.api.CloneCommand;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ProgressMonitor;
+import org.eclipse.jgit.merge.ContentMergeStrategy;
+import org.eclipse.jgit.util.FileUtils;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Creates the local checkout of the data repository when the application
+ * gets started for the first time. Instead of cloning the complete history
+ * of the repository, which is never used by the application, the bootstrap
+ * first tries to unpack a snapshot archive of the repository (if one is
+ * available) and to fast-forward it to the latest commit. Otherwise it
+ * performs a shallow clone of the "live" branch, which only transfers the
+ * objects of the latest commit.
+ * <p>
+ * The snapshot archive is a zip file of a (shallow) clone, including its
+ * ".git" directory. It gets looked up via the system property
+ * "jfxcentral.bootstrap.archive" and, if the property is not set, as the
+ * resource "bootstrap/jfxcentral-data.zip" next to the application class.
+ * A full clone can be forced by setting the system property
+ * "jfxcentral.clone.full" to true.
+ * <p>
+ * The time needed by each step gets logged, and each step is also reported
+ * as a task of the given progress monitor.
+ */
+public final class RepositoryBootstrap {
+
+    private static final Logger LOG = Logger.getLogger(RepositoryBootstrap.class.getName());
+
+    public static final String REPOSITORY_URL = "https://github.com/dlemmermann/jfxcentral-data.git";
+
+    public static final String BRANCH = "live";
+
+    private static final String ARCHIVE_RESOURCE = "/com/dlsc/jfxcentral/bootstrap/jfxcentral-data.zip";
+
+    private RepositoryBootstrap() {
+    }
+
+    /**
+     * Creates the local checkout of the data repository inside the given
+     * directory.
+     *
+     * @param directory the directory for the checkout, must not exist
+     * @param monitor   the monitor used for reporting the progress
+     * @throws GitAPIException if the repository can not be cloned
+     * @throws IOException     if the checkout can not be written
+     */
+    public static void bootstrap(File directory, ProgressMonitor monitor) throws GitAPIException, IOException {
+        long time = System.currentTimeMillis();
+
+        if (!unpackSnapshot(directory, monitor)) {
+            clone(directory, monitor);
+        }
+
+        LOG.info("repository bootstrap finished in " + (System.currentTimeMillis() - time) + " ms");
+    }
+
+    private static void clone(File directory, ProgressMonitor monitor) throws GitAPIException {
+        long time = System.currentTimeMillis();
+
+        boolean full = Boolean.getBoolean("jfxcentral.clone.full");
+
+        CloneCommand command = Git.cloneRepository()
+                .setURI(REPOSITORY_URL)
+                .setBranch(BRANCH)
+                .setBranchesToClone(List.of(Constants.R_HEADS + BRANCH))
+                .setDirectory(directory)
+                .setProgressMonitor(monitor);
+
+        if (!full) {
+            // the application only needs the latest state of the data, not its history
+            command.setDepth(1).setNoTags();
+        }
+
+        try (Git git = command.call()) {
+            LOG.info((full ? "full" : "shallow") + " clone finished in " + (System.currentTimeMillis() - time) + " ms");
+        }
+    }
+
+    /*
+     * Unpacks the snapshot archive and fast-forwards it. Returns false if
+     * there is no archive or if it could not be used, in which case the
+     * directory does not exist afterwards.
+     */
+    private static boolean unpackSnapshot(File directory, ProgressMonitor monitor) {
+        try (InputStream in = openArchive()) {
+            if (in == null) {
+                return false;
+            }
+
+            long time = System.currentTimeMillis();
+
+            monitor.beginTask("Unpacking data", ProgressMonitor.UNKNOWN);
+            unzip(in, directory.toPath());
+            monitor.endTask();
+
+            LOG.info("snapshot unpacked in " + (System.currentTimeMillis() - time) + " ms");
+            time = System.currentTimeMillis();
+
+            try (Git git = Git.open(directory)) {
+                git.pull().setContentMergeStrategy(ContentMergeStrategy.THEIRS).setProgressMonitor(monitor).call();
+            }
+
+            LOG.info("snapshot updated in " + (System.currentTimeMillis() - time) + " ms");
+            return true;
+        } catch (IOException | GitAPIException | RuntimeException ex) {
+            LOG.log(Level.WARNING, "unable to use the repository snapshot, cloning instead", ex);
+
+            try {
+                FileUtils.delete(directory, FileUtils.RECURSIVE | FileUtils.SKIP_MISSING);
+            } catch (IOException e) {
+                LOG.log(Level.WARNING, "unable to delete the unpacked repository snapshot " + directory, e);
+            }
+
+            return false;
+        }
+    }
+
+    private static InputStream openArchive() throws IOException {
+        String archive = System.getProperty("jfxcentral.bootstrap.archive");
+        if (archive != null) {
+            File file = new File(archive);
+            return file.isFile() ? new FileInputStream(file) : null;
+        }
+
+        return RepositoryBootstrap.class.getResourceAsStream(ARCHIVE_RESOURCE);
+    }
+
+    private static void unzip(InputStream in, Path target) throws IOException {
+        Path root = target.toAbsolutePath().normalize();
+        Files.createDirectories(root);
+
+        try (ZipInputStream zip = new ZipInputStream(in)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                Path path = root.resolve(entry.getName()).normalize();
+                if (!path.startsWith(root)) {
+                    throw new IOException("invalid entry in repository snapshot: " + entry.getName());
+                }
+
+                if (entry.isDirectory()) {
+                    Files.createDirectories(path);
+                } else {
+                    Files.createDirectories(path.getParent());
+                    Files.copy(zip, path, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        }
+    }
+}
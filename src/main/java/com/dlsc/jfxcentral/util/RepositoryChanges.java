@@ -0,0 +1,156 @@
+package com.dlsc.jfxcentral.util;
+
+import org.eclipse.jgit.diff.DiffEntry;
+import org.eclipse.jgit.diff.DiffFormatter;
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.util.io.DisabledOutputStream;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The files of the data repository that have changed between two commits,
+ * used for deciding how much work a refresh of the data requires. A pull
+ * that did not bring in any new commits does not require any work at all,
+ * while changes to images only require the affected images to be loaded
+ * again, but not the model.
+ */
+public final class RepositoryChanges {
+
+    private static final RepositoryChanges ALL = new RepositoryChanges(null);
+
+    private static final RepositoryChanges NONE = new RepositoryChanges(Collections.emptySet());
+
+    // null if everything has to be considered changed
+    private final Set<String> paths;
+
+    private RepositoryChanges(Set<String> paths) {
+        this.paths = paths;
+    }
+
+    /**
+     * Returns an instance that considers everything as changed, e.g. after
+     * the initial clone of the repository.
+     *
+     * @return the changes
+     */
+    public static RepositoryChanges all() {
+        return ALL;
+    }
+
+    /**
+     * Computes the paths of all files that differ between the two given
+     * commits.
+     *
+     * @param repository the git repository
+     * @param oldHead    the commit before the update or null if unknown
+     * @param newHead    the commit after the update or null if unknown
+     * @return the changes
+     * @throws IOException if the commits can not be compared
+     */
+    public static RepositoryChanges between(Repository repository, AnyObjectId oldHead, AnyObjectId newHead) throws IOException {
+        if (oldHead == null || newHead == null) {
+            return ALL;
+        }
+
+        if (Objects.equals(oldHead, newHead)) {
+            return NONE;
+        }
+
+        Set<String> paths = new LinkedHashSet<>();
+
+        try (DiffFormatter formatter = new DiffFormatter(DisabledOutputStream.INSTANCE)) {
+            formatter.setRepository(repository);
+            for (DiffEntry entry : formatter.scan(oldHead, newHead)) {
+                if (!DiffEntry.DEV_NULL.equals(entry.getOldPath())) {
+                    paths.add(entry.getOldPath());
+                }
+                if (!DiffEntry.DEV_NULL.equals(entry.getNewPath())) {
+                    paths.add(entry.getNewPath());
+                }
+            }
+        }
+
+        return new RepositoryChanges(Collections.unmodifiableSet(paths));
+    }
+
+    /**
+     * Determines whether everything has to be considered changed.
+     *
+     * @return true if the changed files are not known
+     */
+    public boolean isAll() {
+        return paths == null;
+    }
+
+    /**
+     * Determines whether nothing has changed at all.
+     *
+     * @return true if there are no changes
+     */
+    public boolean isEmpty() {
+        return paths != null && paths.isEmpty();
+    }
+
+    /**
+     * Returns the paths of the changed files, relative to the root of the
+     * repository.
+     *
+     * @return the changed paths or an empty set if they are not known
+     */
+    public Set<String> getPaths() {
+        return paths != null ? paths : Collections.emptySet();
+    }
+
+    /**
+     * Determines whether the model has to be loaded again. This is the case
+     * when one of the JSON files or one of the markdown files has changed.
+     * Images get loaded on demand and do not require a reload of the model.
+     *
+     * @return true if the data repository needs to load its data again
+     */
+    public boolean affectsModel() {
+        if (paths == null) {
+            return true;
+        }
+
+        for (String path : paths) {
+            if (path.endsWith(".json") || path.endsWith(".md")) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Determines whether a file inside the given directory of the repository
+     * has changed, e.g. "videos".
+     *
+     * @param directory the directory relative to the root of the repository
+     * @return true if the directory contains changes
+     */
+    public boolean affects(String directory) {
+        if (paths == null) {
+            return true;
+        }
+
+        String prefix = directory.endsWith("/") ? directory : directory + "/";
+        for (String path : paths) {
+            if (path.startsWith(prefix) || path.equals(directory) || path.startsWith(directory + ".")) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return paths == null ? "all" : paths.size() + " changed files";
+    }
+}
@@ -14,6 +14,9 @@ import javafx.util.Callback;
 import org.kordamp.ikonli.javafx.FontIcon;
 import org.kordamp.ikonli.material.Material;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class AdvancedListView<T> extends StackPane {
 
     public static final String PAGE_BUTTON = "page-button";
@@ -23,6 +26,9 @@ public class AdvancedListView<T> extends StackPane {
 
     private final HBox paginationBox = new HBox();
 
+    // the cells shown by the replacement list view (the vbox), reused for every page
+    private final List<ListCell<T>> cells = new ArrayList<>();
+
     public AdvancedListView() {
         getStyleClass().add("advanced-list-view");
 
@@ -37,6 +43,9 @@ public class AdvancedListView<T> extends StackPane {
 
         placeholder.addListener(it -> updateView());
 
+        // cells created by another factory can not be reused
+        cellFactory.addListener(it -> discardCells());
+
         InvalidationListener updateListener = (Observable it) -> {
 
             box.setVisible(isPaging());
@@ -309,40 +318,73 @@ public class AdvancedListView<T> extends StackPane {
     }
 
     private void updateItems() {
-        box.getChildren().clear();
+        updateItems(false);
+    }
+
+    /*
+     * Shows the items of the current page. The cells get created only once
+     * and are then reused for every page, a page change only assigns new
+     * indices to them. A forced update makes all cells update their content,
+     * even if their index and item did not change.
+     */
+    private void updateItems(boolean force) {
+        List<Node> children = new ArrayList<>();
 
         Callback<ListView<T>, ListCell<T>> cellFactory = listView.getCellFactory();
         if (cellFactory != null) {
 
             int startIndex = getPage() * getVisibleRowCount();
             int endIndex = Math.min(startIndex + getVisibleRowCount(), getItems() != null ? getItems().size() : 0);
+            int count = Math.max(0, endIndex - startIndex);
 
-            if (isPaging() && getPageCount() > 1) {
-                // endIndex = startIndex + getVisibleRowCount();
-            }
-
-            for (int index = startIndex; index < endIndex; index++) {
-
+            while (cells.size() < count) {
                 ListCell<T> cell = cellFactory.call(listView);
                 cell.getStyleClass().add("advanced-list-cell");
                 cell.updateListView(listView);
+                cells.add(cell);
+            }
 
-                box.getChildren().add(cell);
+            for (int i = 0; i < count; i++) {
+                int index = startIndex + i;
 
-                if (index < getItems().size()) {
-                    cell.updateIndex(index);
-                } else {
+                ListCell<T> cell = cells.get(i);
+                if (force) {
                     cell.updateIndex(-1);
                 }
-
+                cell.updateIndex(index);
                 cell.updateSelected(listView.getSelectionModel().isSelected(index));
 
-                if (index == endIndex - 1) {
-                    cell.getStyleClass().add("last");
+                if (i == count - 1) {
+                    if (!cell.getStyleClass().contains("last")) {
+                        cell.getStyleClass().add("last");
+                    }
+                } else {
+                    cell.getStyleClass().remove("last");
                 }
+
+                children.add(cell);
+            }
+
+            // cells that are not needed on this page release their items
+            for (int i = count; i < cells.size(); i++) {
+                cells.get(i).updateIndex(-1);
+            }
+
+            while (cells.size() > Math.max(count, getVisibleRowCount())) {
+                cells.remove(cells.size() - 1);
             }
         }
-        box.getChildren().add(paginationBox);
+
+        children.add(paginationBox);
+
+        if (!box.getChildren().equals(children)) {
+            box.getChildren().setAll(children);
+        }
+    }
+
+    private void discardCells() {
+        cells.forEach(cell -> cell.updateIndex(-1));
+        cells.clear();
     }
 
     private final ObjectProperty<Callback<ListView<T>, ListCell<T>>> cellFactory = new SimpleObjectProperty<>(this, "cellFactory", view -> new ListCell<>() {
@@ -373,7 +415,7 @@ public class AdvancedListView<T> extends StackPane {
     public void refresh() {
         // update the replacement list view / the vbox
         if (getItems().size() <= getVisibleRowCount()) {
-            updateItems();
+            updateItems(true);
         }
 
         // update the "real" list view
@@ -7,6 +7,7 @@ import javafx.application.Platform;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.geometry.Pos;
+import javafx.geometry.Rectangle2D;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -16,20 +17,42 @@ import javafx.scene.layout.VBox;
 import javafx.util.Duration;
 import org.eclipse.jgit.lib.ProgressMonitor;
 
+import java.lang.ref.SoftReference;
 import java.text.NumberFormat;
 
 public class DukeAnimationView extends StackPane implements ProgressMonitor {
 
-    private static Image[] images = new Image[89];
+    /*
+     * All frames of the animation are stored in a single sprite sheet, row by
+     * row, and the image view only shows the viewport of the current frame.
+     * The sheet gets decoded in the background when the first view needs it
+     * and is shared by all views for as long as one of them is alive.
+     */
+    private static final int FRAME_COUNT = 89;
+
+    private static final int COLUMNS = 10;
+
+    private static final int FRAME_WIDTH = 400;
+
+    private static final int FRAME_HEIGHT = 406;
+
+    private static final Rectangle2D[] VIEWPORTS = new Rectangle2D[FRAME_COUNT];
 
     static {
-        for (int i = 0; i < 89; i++) {
-            String counter = Integer.toString(i);
-            if (i < 10) {
-                counter = "0" + counter;
-            }
-            images[i] = new Image(JFXCentralApp.class.getResource("dukesmall/duke_jfx" + counter + ".png").toExternalForm());
+        for (int i = 0; i < FRAME_COUNT; i++) {
+            VIEWPORTS[i] = new Rectangle2D((i % COLUMNS) * FRAME_WIDTH, (i / COLUMNS) * FRAME_HEIGHT, FRAME_WIDTH, FRAME_HEIGHT);
+        }
+    }
+
+    private static SoftReference<Image> spriteSheet = new SoftReference<>(null);
+
+    private static synchronized Image getSpriteSheet() {
+        Image image = spriteSheet.get();
+        if (image == null) {
+            image = new Image(JFXCentralApp.class.getResource("duke-sprites.png").toExternalForm(), true);
+            spriteSheet = new SoftReference<>(image);
         }
+        return image;
     }
 
     private final ImageView imageView = new ImageView();
@@ -58,6 +81,8 @@ public class DukeAnimationView extends StackPane implements ProgressMonitor {
 
         getChildren().add(vBox);
 
+        imageView.setImage(getSpriteSheet());
+        imageView.setViewport(VIEWPORTS[0]);
         imageView.setPreserveRatio(true);
         imageView.fitWidthProperty().bind(vBox.widthProperty().multiply(.6));
         imageView.fitHeightProperty().bind(vBox.heightProperty().multiply(.6));
@@ -86,15 +111,15 @@ public class DukeAnimationView extends StackPane implements ProgressMonitor {
             timeline.stop();
         }
 
-        imageView.setImage(images[0]);
+        imageView.setViewport(VIEWPORTS[0]);
 
         IntegerProperty frameIndex = new SimpleIntegerProperty();
-        frameIndex.addListener(it -> imageView.setImage(images[frameIndex.get()]));
-        KeyValue keyValue = new KeyValue(frameIndex, images.length - 1, Interpolator.LINEAR);
+        frameIndex.addListener(it -> imageView.setViewport(VIEWPORTS[frameIndex.get()]));
+        KeyValue keyValue = new KeyValue(frameIndex, FRAME_COUNT - 1, Interpolator.LINEAR);
 
         // frame 1 updates the images, frame 2 causes a longer delay before animation reverses and then starts over again
-        KeyFrame keyFrame1 = new KeyFrame(Duration.seconds(images.length / 25), keyValue);
-        KeyFrame keyFrame2 = new KeyFrame(Duration.seconds(images.length / 25).add(Duration.seconds(5)));
+        KeyFrame keyFrame1 = new KeyFrame(Duration.seconds(FRAME_COUNT / 25), keyValue);
+        KeyFrame keyFrame2 = new KeyFrame(Duration.seconds(FRAME_COUNT / 25).add(Duration.seconds(5)));
 
         timeline.setDelay(Duration.seconds(1));
         timeline.setAutoReverse(true);
@@ -105,7 +130,7 @@ public class DukeAnimationView extends StackPane implements ProgressMonitor {
 
     public void showLastImage() {
         stop();
-        imageView.setImage(images[images.length - 1]);
+        imageView.setViewport(VIEWPORTS[FRAME_COUNT - 1]);
     }
 
     public void stop() {
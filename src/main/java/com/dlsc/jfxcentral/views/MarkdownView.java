@@ -11,13 +11,70 @@ import javafx.scene.Node;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
-
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A markdown view that can remember the content it has rendered for the
+ * last couple of texts. The long-lived readme views of the detail pages
+ * keep their markdown view and only change its text when the user selects
+ * another item, so going back to an item that was shown a moment ago reuses
+ * the nodes created for it instead of parsing the markdown and creating the
+ * nodes again. Only views created with {@link #MarkdownView(boolean)} do
+ * this, all other views (e.g. the ones inside list cells) do not keep any
+ * content that is not shown.
+ * <p>
+ * The rendered nodes can not be shared between views (and therefore not
+ * between sessions), as they are bound to the properties of the view that
+ * created them, e.g. its width and the "show images" flag. The number of
+ * texts remembered by each of these views can be configured via the system
+ * property "jfxcentral.markdown.pool.size", a value of zero disables the
+ * reuse. The time needed for rendering gets logged with level FINE.
+ */
 public class MarkdownView extends com.sandec.mdfx.MarkdownView {
 
+    private static final Logger LOG = Logger.getLogger(MarkdownView.class.getName());
+
+    private static final int POOL_SIZE = Integer.getInteger("jfxcentral.markdown.pool.size", 3);
+
+    private static final AtomicLong RENDER_COUNT = new AtomicLong();
+
+    private static final AtomicLong RENDER_NANOS = new AtomicLong();
+
+    private static final AtomicLong REUSE_COUNT = new AtomicLong();
+
+    // rendered content, keyed by base URL and text, access ordered
+    private final Map<String, Node> pool = new LinkedHashMap<>(8, .75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Node> eldest) {
+            return size() > poolSize;
+        }
+    };
+
+    private final int poolSize;
+
+    private String currentKey;
+
+    private Node currentContent;
+
     private String baseURL = "";
 
     public MarkdownView() {
+        this(false);
+    }
+
+    /**
+     * Creates a new markdown view.
+     *
+     * @param reuseContent true if the view should remember the content of the last couple of texts it has shown
+     */
+    public MarkdownView(boolean reuseContent) {
+        poolSize = reuseContent ? POOL_SIZE : 0;
+
         getStyleClass().add("markdown-view");
         getStylesheets().add(JFXCentralApp.class.getResource("styles.css").toExternalForm());
         getStylesheets().add(JFXCentralApp.class.getResource("markdown.css").toExternalForm());
@@ -45,6 +102,55 @@ public class MarkdownView extends com.sandec.mdfx.MarkdownView {
         this.baseURL = baseURL;
     }
 
+    @Override
+    protected void updateContent() {
+        if (pool == null) {
+            // called by the constructor of the superclass
+            super.updateContent();
+            return;
+        }
+
+        String text = getMdString();
+
+        if (currentContent != null && poolSize > 0) {
+            pool.put(currentKey, currentContent);
+        }
+
+        currentKey = null;
+        currentContent = null;
+
+        if (text == null || text.isBlank()) {
+            getChildren().clear();
+            return;
+        }
+
+        String key = baseURL + "\n" + text;
+
+        Node content = pool.remove(key);
+        if (content != null) {
+            getChildren().setAll(content);
+            REUSE_COUNT.incrementAndGet();
+        } else {
+            long time = System.nanoTime();
+            super.updateContent();
+            time = System.nanoTime() - time;
+
+            long count = RENDER_COUNT.incrementAndGet();
+            long total = RENDER_NANOS.addAndGet(time);
+
+            if (LOG.isLoggable(Level.FINE)) {
+                LOG.fine("rendered " + text.length() + " characters in " + (time / 1_000_000) + " ms, average: " + (total / count / 1_000_000) + " ms, renders: " + count + ", reuses: " + REUSE_COUNT.get());
+            }
+
+            if (getChildren().size() == 1) {
+                content = getChildren().get(0);
+            }
+        }
+
+        currentKey = key;
+        currentContent = content;
+    }
+
     @Override
     public void setLink(Node node, String link, String description) {
         Util.setLink(node, link, description);
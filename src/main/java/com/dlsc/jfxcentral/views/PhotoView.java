@@ -230,6 +230,27 @@ public class PhotoView extends Control {
         return croppedImage.getReadOnlyProperty();
     }
 
+    private final IntegerProperty maxCroppedImageSize = new SimpleIntegerProperty(this, "maxCroppedImageSize", 0);
+
+    public final int getMaxCroppedImageSize() {
+        return maxCroppedImageSize.get();
+    }
+
+    /**
+     * The maximum width and height of the cropped image. Larger crop areas get scaled
+     * down to this size, which is ideal when the cropped image only gets used as an
+     * avatar. A value of zero keeps the resolution of the original image.
+     *
+     * @return the maximum size of the cropped image
+     */
+    public final IntegerProperty maxCroppedImageSizeProperty() {
+        return maxCroppedImageSize;
+    }
+
+    public final void setMaxCroppedImageSize(int maxCroppedImageSize) {
+        this.maxCroppedImageSize.set(maxCroppedImageSize);
+    }
+
     // photo effect
 
     private final ObjectProperty<Effect> photoEffect = new SimpleObjectProperty<>(this, "photoEffect");
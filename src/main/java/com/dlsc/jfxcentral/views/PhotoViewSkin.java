@@ -1,7 +1,6 @@
 package com.dlsc.jfxcentral.views;
 
 import com.dlsc.jfxcentral.views.PhotoView.ClipShape;
-import javafx.application.Platform;
 import javafx.beans.InvalidationListener;
 import javafx.beans.binding.Bindings;
 import javafx.concurrent.Service;
@@ -14,6 +13,7 @@ import javafx.scene.control.Slider;
 import javafx.scene.effect.DropShadow;
 import javafx.scene.effect.InnerShadow;
 import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
 import javafx.scene.image.PixelReader;
 import javafx.scene.image.WritableImage;
 import javafx.scene.layout.Priority;
@@ -27,6 +27,9 @@ import java.util.function.Supplier;
 
 public class PhotoViewSkin extends SkinBase<PhotoView> {
 
+    // the largest downsampling buffer that gets kept between two crops (1 MB)
+    private static final int MAX_BUFFER_SIZE = 512 * 512;
+
     public PhotoViewSkin(PhotoView view) {
         super(view);
 
@@ -163,12 +166,18 @@ public class PhotoViewSkin extends SkinBase<PhotoView> {
             view.photoZoomProperty().addListener(cropListener);
             view.photoTranslateXProperty().addListener(cropListener);
             view.photoTranslateYProperty().addListener(cropListener);
+            view.maxCroppedImageSizeProperty().addListener(cropListener);
 
             view.createCroppedImageProperty().addListener(it -> {
                 if (view.isCreateCroppedImage()) {
                     crop();
+                } else {
+                    releaseBuffer();
                 }
             });
+
+            // the buffer only helps while the user moves or zooms the same photo
+            view.photoProperty().addListener(it -> releaseBuffer());
         }
 
         private void updateBorderShape() {
@@ -216,41 +225,163 @@ public class PhotoViewSkin extends SkinBase<PhotoView> {
         /*
          * We use a service for cropping so that we do not crop
          * every single time the user moves the original image but
-         * instead wait until the user is done moving.
+         * instead wait until the user is done moving. The crop area
+         * gets computed on the FX thread when the task gets created,
+         * the pixels get copied on the worker thread.
          */
-        class CropService extends Service<Void> {
+        class CropService extends Service<Image> {
+
+            CropService() {
+                setOnSucceeded(evt -> {
+                    Image croppedImage = getValue();
+                    if (croppedImage != null) {
+                        getSkinnable().getProperties().put("cropped.image", croppedImage);
+                    }
+                });
+            }
 
             @Override
-            protected Task<Void> createTask() {
-                return new CropTask();
+            protected Task<Image> createTask() {
+                return createCropTask();
             }
         }
 
-        class CropTask extends Task<Void> {
+        class CropTask extends Task<Image> {
+
+            private final Image image;
+            private final int x;
+            private final int y;
+            private final int width;
+            private final int height;
+            private final int maxSize;
+
+            CropTask(Image image, int x, int y, int width, int height, int maxSize) {
+                this.image = image;
+                this.x = x;
+                this.y = y;
+                this.width = width;
+                this.height = height;
+                this.maxSize = maxSize;
+            }
 
             @Override
-            protected Void call() throws Exception {
+            protected Image call() throws Exception {
                 Thread.sleep(200);
-                if (!isCancelled()) {
-                    Platform.runLater(ImageBox.this::doCrop);
+                if (isCancelled() || width <= 0 || height <= 0) {
+                    return null;
+                }
+
+                double scale = maxSize > 0 ? Math.min(1, (double) maxSize / Math.max(width, height)) : 1;
+                int targetWidth = Math.max(1, (int) (width * scale));
+                int targetHeight = Math.max(1, (int) (height * scale));
+
+                if (targetWidth == width && targetHeight == height) {
+                    // no scaling needed, copy the pixels straight into the new image
+                    return new WritableImage(image.getPixelReader(), x, y, width, height);
+                }
+
+                // the source rows of one target row, followed by the target pixels
+                int bandSize = width * ((height + targetHeight - 1) / targetHeight);
+                int targetSize = targetWidth * targetHeight;
+
+                int generation = getBufferGeneration();
+                int[] pixels = takeBuffer(bandSize + targetSize);
+                try {
+                    downsample(image.getPixelReader(), x, y, width, height, pixels, bandSize, targetWidth, targetHeight);
+
+                    if (isCancelled()) {
+                        return null;
+                    }
+
+                    WritableImage croppedImage = new WritableImage(targetWidth, targetHeight);
+                    croppedImage.getPixelWriter().setPixels(0, 0, targetWidth, targetHeight, PixelFormat.getIntArgbInstance(), pixels, bandSize, targetWidth);
+                    return croppedImage;
+                } finally {
+                    returnBuffer(pixels, generation);
+                }
+            }
+        }
+
+        private final Object bufferLock = new Object();
+
+        // reused by the downsampling crop tasks while the user moves the photo, guarded by bufferLock
+        private int[] buffer;
+
+        // increased whenever the buffer gets released, guarded by bufferLock
+        private int bufferGeneration;
+
+        /*
+         * Hands the reusable buffer to a crop task. The task owns the buffer
+         * until it returns it, so a cancelled task that is still running does
+         * not share it with the next one.
+         */
+        private int[] takeBuffer(int size) {
+            synchronized (bufferLock) {
+                int[] result = buffer;
+                buffer = null;
+                if (result == null || result.length < size) {
+                    result = new int[size];
                 }
+                return result;
+            }
+        }
 
-                return null;
+        private int getBufferGeneration() {
+            synchronized (bufferLock) {
+                return bufferGeneration;
+            }
+        }
+
+        private void returnBuffer(int[] pixels, int generation) {
+            // large photos would otherwise keep a lot of memory for as long as the view exists
+            if (pixels.length > MAX_BUFFER_SIZE) {
+                return;
+            }
+
+            synchronized (bufferLock) {
+                // released in the meantime, e.g. because the photo has changed
+                if (generation != bufferGeneration) {
+                    return;
+                }
+
+                if (buffer == null || buffer.length < pixels.length) {
+                    buffer = pixels;
+                }
+            }
+        }
+
+        /*
+         * Frees the buffer, e.g. when the user is done with a photo. Tasks
+         * that are still running drop their buffer when they are done.
+         */
+        private void releaseBuffer() {
+            synchronized (bufferLock) {
+                buffer = null;
+                bufferGeneration++;
             }
         }
 
         public void crop() {
             if (getSkinnable().isCreateCroppedImage()) {
+                if (getSkinnable().getPhoto() == null) {
+                    cropService.cancel();
+                    getSkinnable().getProperties().put("cropped.image", null);
+                    return;
+                }
+
                 cropService.restart();
             }
         }
 
-        private void doCrop() {
+        /*
+         * Computes the crop area on the FX thread, the properties of the
+         * view must not be accessed by the crop task itself.
+         */
+        private CropTask createCropTask() {
             Image image = getSkinnable().getPhoto();
 
             if (image == null) {
-                getSkinnable().getProperties().put("cropped.image", null);
-                return;
+                return new CropTask(null, 0, 0, 0, 0, 0);
             }
 
             double scale = image.getWidth() / (imageView.getFitWidth() * getSkinnable().getPhotoZoom());
@@ -274,17 +405,12 @@ public class PhotoViewSkin extends SkinBase<PhotoView> {
                 h = (int) (rectangle.getHeight() * scale);
             }
 
-            PixelReader reader = getSkinnable().getPhoto().getPixelReader();
-
             int ix = Math.max(0, x);
             int iy = Math.max(0, y);
             int iw = (int) Math.min(image.getWidth() - ix, w);
             int ih = (int) Math.min(image.getHeight() - iy, h);
 
-            if (iw > 0 && ih > 0) {
-                WritableImage croppedImage = new WritableImage(reader, ix, iy, iw, ih);
-                getSkinnable().getProperties().put("cropped.image", croppedImage);
-            }
+            return new CropTask(image, ix, iy, iw, ih, getSkinnable().getMaxCroppedImageSize());
         }
 
         @Override
@@ -342,4 +468,39 @@ public class PhotoViewSkin extends SkinBase<PhotoView> {
             setClip(clip);
         }
     }
+
+    /*
+     * Scales the given area of the image down by averaging all source pixels
+     * that fall into a target pixel. The source gets read one band of rows
+     * at a time into the start of the buffer, the result gets written into
+     * the buffer starting at the given offset.
+     */
+    private static void downsample(PixelReader reader, int x, int y, int width, int height, int[] buffer, int targetOffset, int targetWidth, int targetHeight) {
+        for (int ty = 0; ty < targetHeight; ty++) {
+            int y0 = ty * height / targetHeight;
+            int y1 = Math.max(y0 + 1, (ty + 1) * height / targetHeight);
+
+            reader.getPixels(x, y + y0, width, y1 - y0, PixelFormat.getIntArgbInstance(), buffer, 0, width);
+
+            for (int tx = 0; tx < targetWidth; tx++) {
+                int x0 = tx * width / targetWidth;
+                int x1 = Math.max(x0 + 1, (tx + 1) * width / targetWidth);
+
+                long a = 0, r = 0, g = 0, b = 0;
+                for (int row = 0; row < y1 - y0; row++) {
+                    int offset = row * width;
+                    for (int col = x0; col < x1; col++) {
+                        int argb = buffer[offset + col];
+                        a += (argb >>> 24) & 0xff;
+                        r += (argb >>> 16) & 0xff;
+                        g += (argb >>> 8) & 0xff;
+                        b += argb & 0xff;
+                    }
+                }
+
+                int count = (y1 - y0) * (x1 - x0);
+                buffer[targetOffset + ty * targetWidth + tx] = (int) ((a / count) << 24 | (r / count) << 16 | (g / count) << 8 | (b / count));
+            }
+        }
+    }
 }
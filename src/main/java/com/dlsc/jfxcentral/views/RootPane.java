@@ -21,18 +21,49 @@ import javafx.css.PseudoClass;
 import javafx.geometry.Pos;
 import javafx.scene.Cursor;
 import javafx.scene.Node;
+import javafx.scene.Parent;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.StackPane;
 import javafx.util.Duration;
 
+import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 public class RootPane extends StackPane {
 
+    private static final Logger LOG = Logger.getLogger(RootPane.class.getName());
+
+    private static final int MAX_PAGES = Integer.getInteger("jfxcentral.pages.cache.size", 5);
+
     private IPage<?> page;
 
+    /*
+     * The pages that have been shown recently, least recently used first.
+     * Switching back to one of them reuses it instead of building its scene
+     * graph again. The pages only observe the data repository via weak
+     * listeners and content bindings, so evicted pages can be garbage
+     * collected. The number of pages can be configured via the system
+     * property "jfxcentral.pages.cache.size".
+     */
+    private final Map<View, IPage<?>> pages = new LinkedHashMap<>(16, .75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<View, IPage<?>> eldest) {
+            if (size() > MAX_PAGES) {
+                if (LOG.isLoggable(Level.FINE)) {
+                    LOG.fine("evicting page " + eldest.getKey() + " (" + countNodes((Node) eldest.getValue()) + " nodes), cached pages: " + (size() - 1));
+                }
+                return true;
+            }
+            return false;
+        }
+    };
+
     private OverlayPane overlayPane = new OverlayPane();
 
     private StackPane contentPane;
@@ -184,43 +215,43 @@ public class RootPane extends StackPane {
 
         switch (view) {
             case HOME:
-                page = new MobileHomePage(this);
+                page = getPage(view, MobileHomePage::new);
                 break;
             case OPENJFX:
-                page = new MobileOpenJFXPage(this);
+                page = getPage(view, MobileOpenJFXPage::new);
                 break;
             case PEOPLE:
-                page = new MobilePeoplePage(this);
+                page = getPage(view, MobilePeoplePage::new);
                 break;
             case TUTORIALS:
-                page = new MobileTutorialsPage(this);
+                page = getPage(view, MobileTutorialsPage::new);
                 break;
             case REAL_WORLD:
-                page = new MobileRealWorldAppsPage(this);
+                page = getPage(view, MobileRealWorldAppsPage::new);
                 break;
             case DOWNLOADS:
-                page = new MobileDownloadsPage(this);
+                page = getPage(view, MobileDownloadsPage::new);
                 break;
             case COMPANIES:
-                page = new MobileCompaniesPage(this);
+                page = getPage(view, MobileCompaniesPage::new);
                 break;
             case TOOLS:
-                page = new MobileToolsPage(this);
+                page = getPage(view, MobileToolsPage::new);
                 break;
             case LIBRARIES:
-                page = new MobileLibrariesPage(this);
+                page = getPage(view, MobileLibrariesPage::new);
                 break;
             case BLOGS:
-                page = new MobileBlogsPage(this);
+                page = getPage(view, MobileBlogsPage::new);
                 break;
             case BOOKS:
-                page = new MobileBooksPage(this);
+                page = getPage(view, MobileBooksPage::new);
                 break;
             case VIDEOS:
-                page = new MobileVideosPage(this);
+                page = getPage(view, MobileVideosPage::new);
                 break;
             case TIPS:
-                page = new MobileTipsPage(this);
+                page = getPage(view, MobileTipsPage::new);
                 break;
             default:
                 break;
@@ -241,46 +272,46 @@ public class RootPane extends StackPane {
 
         switch (view) {
             case HOME:
-                page = new HomePage(this);
+                page = getPage(view, HomePage::new);
                 break;
             case OPENJFX:
-                page = new OpenJFXPage(this);
+                page = getPage(view, OpenJFXPage::new);
                 break;
             case PEOPLE:
-                page = new PeoplePage(this);
+                page = getPage(view, PeoplePage::new);
                 break;
             case TUTORIALS:
-                page = new TutorialsPage(this);
+                page = getPage(view, TutorialsPage::new);
                 break;
             case REAL_WORLD:
-                page = new RealWorldAppsPage(this);
+                page = getPage(view, RealWorldAppsPage::new);
                 break;
             case DOWNLOADS:
-                page = new DownloadsPage(this);
+                page = getPage(view, DownloadsPage::new);
                 break;
             case COMPANIES:
-                page = new CompaniesPage(this);
+                page = getPage(view, CompaniesPage::new);
                 break;
             case TOOLS:
-                page = new ToolsPage(this);
+                page = getPage(view, ToolsPage::new);
                 break;
             case LIBRARIES:
-                page = new LibrariesPage(this);
+                page = getPage(view, LibrariesPage::new);
                 break;
             case BLOGS:
-                page = new BlogsPage(this);
+                page = getPage(view, BlogsPage::new);
                 break;
             case BOOKS:
-                page = new BooksPage(this);
+                page = getPage(view, BooksPage::new);
                 break;
             case VIDEOS:
-                page = new VideosPage(this);
+                page = getPage(view, VideosPage::new);
                 break;
             case TIPS:
-                page = new TipsPage(this);
+                page = getPage(view, TipsPage::new);
                 break;
             case DEVELOPMENT:
-                page = new DevToolsPage(this);
+                page = getPage(view, DevToolsPage::new);
                 break;
             default:
                 break;
@@ -291,6 +322,29 @@ public class RootPane extends StackPane {
         borderPane.setCenter((Node) page);
     }
 
+    private IPage<?> getPage(View view, Function<RootPane, IPage<?>> factory) {
+        IPage<?> page = pages.get(view);
+        if (page == null) {
+            page = factory.apply(this);
+            pages.put(view, page);
+
+            if (LOG.isLoggable(Level.FINE)) {
+                LOG.fine("created page " + view + " (" + countNodes((Node) page) + " nodes), cached pages: " + pages.size());
+            }
+        }
+        return page;
+    }
+
+    private static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+
     private void updateExpandedPseudoClass() {
         pseudoClassStateChanged(PseudoClass.getPseudoClass("expanded"), isExpanded());
     }
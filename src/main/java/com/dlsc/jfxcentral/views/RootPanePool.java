@@ -0,0 +1,218 @@
+package com.dlsc.jfxcentral.views;
+
+import com.jpro.webapi.WebAPI;
+import javafx.application.Platform;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps a small number of initialized root panes for each layout (desktop
+ * and mobile) ready to be handed out to new sessions. Creating a root pane
+ * builds the header, the menus, and the overlay pane of the application,
+ * which otherwise delays the first response to a new visitor, especially
+ * when lots of visitors arrive at the same time. The pool gets refilled
+ * after a pane has been taken, one pane per {@link Platform#runLater}
+ * callback, so that the refill does not block the application thread
+ * shared by all sessions for long.
+ * <p>
+ * The panes are not attached to a scene and do not show a view, yet. The
+ * number of panes per layout can be configured via the system property
+ * "jfxcentral.rootpane.pool.size", a value of zero disables the pool. The
+ * pool only gets filled when running on the JPro server.
+ * <p>
+ * The pool also collects the startup latency of the sessions, i.e. the time
+ * from the creation of the view of a session until the first pulse after
+ * its root pane has been attached to the scene, see
+ * {@link #recordStartupTime(long)}.
+ * <p>
+ * All methods have to be called on the JavaFX application thread.
+ */
+public final class RootPanePool {
+
+    private static final Logger LOG = Logger.getLogger(RootPanePool.class.getName());
+
+    private static final RootPanePool INSTANCE = new RootPanePool(Integer.getInteger("jfxcentral.rootpane.pool.size", 2));
+
+    private final int maxSize;
+
+    private final Deque<RootPane> desktopPanes = new ArrayDeque<>();
+
+    private final Deque<RootPane> mobilePanes = new ArrayDeque<>();
+
+    private boolean desktopRefillScheduled;
+
+    private boolean mobileRefillScheduled;
+
+    private long hits;
+
+    private long misses;
+
+    private long startupCount;
+
+    private long totalStartupTime;
+
+    private long maxStartupTime;
+
+    private RootPanePool(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the pool shared by all sessions.
+     *
+     * @return the root pane pool
+     */
+    public static RootPanePool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Starts filling the pool for both layouts, e.g. after the data
+     * repository has been loaded. Calling this method more than once has no
+     * effect.
+     */
+    public void prefill() {
+        scheduleRefill(false);
+        scheduleRefill(true);
+    }
+
+    /**
+     * Returns an initialized root pane for the given layout. The pane gets
+     * taken from the pool if possible, otherwise it gets created right away.
+     *
+     * @param mobile true if the pane is needed for the mobile layout
+     * @return the initialized root pane
+     */
+    public RootPane take(boolean mobile) {
+        RootPane rootPane = getPanes(mobile).poll();
+        if (rootPane != null) {
+            hits++;
+        } else {
+            misses++;
+            rootPane = create(mobile);
+        }
+
+        if (LOG.isLoggable(Level.FINE)) {
+            LOG.fine("root pane (mobile = " + mobile + ") handed out, " + this);
+        }
+
+        scheduleRefill(mobile);
+
+        return rootPane;
+    }
+
+    /**
+     * Records the time it took until a new session has rendered its root
+     * pane for the first time.
+     *
+     * @param nanos the time in nanoseconds
+     */
+    public void recordStartupTime(long nanos) {
+        startupCount++;
+        totalStartupTime += nanos;
+        maxStartupTime = Math.max(maxStartupTime, nanos);
+
+        if (LOG.isLoggable(Level.FINE)) {
+            LOG.fine(String.format("session rendered after %.2f ms, average: %.2f ms", nanos / 1_000_000d, getAverageStartupTime()));
+        }
+    }
+
+    private void scheduleRefill(boolean mobile) {
+        // the desktop application only ever needs a single pane
+        if (maxSize <= 0 || !WebAPI.isBrowser() || isRefillScheduled(mobile) || getPanes(mobile).size() >= maxSize) {
+            return;
+        }
+
+        setRefillScheduled(mobile, true);
+        Platform.runLater(() -> refill(mobile));
+    }
+
+    /*
+     * Creates a single pane and schedules the next one if the pool still is
+     * not full, so that other sessions get a chance to run in between.
+     */
+    private void refill(boolean mobile) {
+        setRefillScheduled(mobile, false);
+
+        Deque<RootPane> panes = getPanes(mobile);
+        if (panes.size() < maxSize) {
+            panes.add(create(mobile));
+            scheduleRefill(mobile);
+        }
+    }
+
+    private RootPane create(boolean mobile) {
+        RootPane rootPane = new RootPane();
+        rootPane.init(mobile);
+        return rootPane;
+    }
+
+    private Deque<RootPane> getPanes(boolean mobile) {
+        return mobile ? mobilePanes : desktopPanes;
+    }
+
+    private boolean isRefillScheduled(boolean mobile) {
+        return mobile ? mobileRefillScheduled : desktopRefillScheduled;
+    }
+
+    private void setRefillScheduled(boolean mobile, boolean scheduled) {
+        if (mobile) {
+            mobileRefillScheduled = scheduled;
+        } else {
+            desktopRefillScheduled = scheduled;
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int getSize(boolean mobile) {
+        return getPanes(mobile).size();
+    }
+
+    public long getHitCount() {
+        return hits;
+    }
+
+    public long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of sessions whose startup time has been recorded.
+     *
+     * @return the number of sessions
+     */
+    public long getStartupCount() {
+        return startupCount;
+    }
+
+    /**
+     * Returns the average time from the creation of the view of a session
+     * until its root pane was rendered for the first time.
+     *
+     * @return the average time in milliseconds
+     */
+    public double getAverageStartupTime() {
+        return startupCount == 0 ? 0 : totalStartupTime / 1_000_000d / startupCount;
+    }
+
+    /**
+     * Returns the longest time from the creation of the view of a session
+     * until its root pane was rendered for the first time.
+     *
+     * @return the maximum time in milliseconds
+     */
+    public double getMaxStartupTime() {
+        return maxStartupTime / 1_000_000d;
+    }
+
+    @Override
+    public String toString() {
+        return "desktop panes: " + desktopPanes.size() + ", mobile panes: " + mobilePanes.size() + ", hits: " + hits + ", misses: " + misses;
+    }
+}
@@ -23,11 +23,13 @@ import javafx.scene.layout.Priority;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 /**
  * The {@link OmniBox} is a popup control that can be used to perform searches
@@ -60,6 +62,15 @@ public class OmniBox extends PopupControl {
     public OmniBox(OmniBoxOwner owner) {
         this.owner = Objects.requireNonNull(owner);
 
+        // the delay gets applied by the scheduler so that waiting searches do not block a worker thread
+        service.setExecutor(OmniSearchScheduler.getInstance().createExecutor(this, () -> {
+            String text = getSearchText();
+            if (isFindAll() || (text != null && !text.trim().isEmpty())) {
+                return getSearchDelay().toMillis();
+            }
+            return 0;
+        }));
+
         listView = new SearchResultListView();
       //  listView.setFixedCellSize(FIXED_CELL_SIZE);
 
@@ -108,6 +119,8 @@ public class OmniBox extends PopupControl {
 
         searchResults.addListener(l);
 
+        omniBoxServices.addListener((Observable it) -> previousSearches.keySet().retainAll(omniBoxServices));
+
         listView.setOnKeyPressed(t -> {
             if (t.getCode() == KeyCode.ENTER || t.getCode() == KeyCode.SPACE || t.getCode() == KeyCode.ESCAPE) {
                 hide();
@@ -287,6 +300,10 @@ public class OmniBox extends PopupControl {
     // new text is "really" different, e.g. ignore trailing spaces
     private String lastSearchText;
 
+    // remember the pattern and the results of the last search per service so
+    // that they can be narrowed down when the user keeps on typing
+    private final Map<OmniBoxService<?>, PreviousSearch> previousSearches = new ConcurrentHashMap<>();
+
     /**
      * Perform a new search but only if the new search text is really different
      * than the one used for the last search, or if the "force" parameter is
@@ -489,7 +506,8 @@ public class OmniBox extends PopupControl {
 
     /**
      * A service implementation used for creating new instances of
-     * {@link OmniSearchTask}.
+     * {@link OmniSearchTask}. The tasks are executed by the shared
+     * {@link OmniSearchScheduler}.
      */
     class OmniSearchService extends Service<Void> {
 
@@ -530,19 +548,19 @@ public class OmniBox extends PopupControl {
         @Override
         protected Void call() throws Exception {
             if (!searchText.trim().isEmpty() || findAll) {
-                Thread.sleep(getSearchDelay().toMillis());
-
                 Platform.runLater(() -> {
                     setFindAll(false);
                     searchRunning.set(true);
                 });
 
-                LOG.fine("running task after sleeping for delay = " + getSearchDelay().toMillis());
+                LOG.fine("running task after delay = " + getSearchDelay().toMillis());
                 if (!isCancelled()) {
                     updateProgress(50, 100);
-                    getOmniBoxServices().parallelStream().peek(service -> LOG.fine("peeking at " + service.getServiceName())).peek(service -> performSearch(service)).collect(Collectors.toList());
+                    // run sequentially, the number of threads is limited by the scheduler
+                    getOmniBoxServices().forEach(service -> performSearch(service));
                 }
             } else {
+                previousSearches.clear();
                 if (!getSearchResults().isEmpty()) {
                     LOG.fine("search text is empty, clearing results");
                     getOmniBoxServices().forEach(service -> getSearchResults().remove(service));
@@ -554,17 +572,51 @@ public class OmniBox extends PopupControl {
             return null;
         }
 
-        @SuppressWarnings("rawtypes")
+        @SuppressWarnings({"rawtypes", "unchecked"})
         private void performSearch(OmniBoxService service) {
             if (!isCancelled()) {
-                LOG.fine("invoking search on search service " + service.getServiceName());
-                @SuppressWarnings("unchecked")
-                List<SearchResult<?>> results = service.search(this, searchText);
+                String pattern = searchText.trim();
+
+                List<SearchResult<?>> results = null;
+
+                PreviousSearch previousSearch = previousSearches.get(service);
+                if (!findAll && previousSearch != null && pattern.startsWith(previousSearch.pattern)) {
+                    LOG.fine("narrowing previous results of search service " + service.getServiceName());
+                    results = service.narrow(this, previousSearch.pattern, previousSearch.results, searchText);
+                }
+
+                if (results == null) {
+                    LOG.fine("invoking search on search service " + service.getServiceName());
+                    results = service.search(this, searchText);
+                }
+
+                if (isCancelled() || findAll) {
+                    // results might be incomplete or not based on the pattern
+                    previousSearches.remove(service);
+                } else {
+                    previousSearches.put(service, new PreviousSearch(pattern, results));
+                }
+
                 getSearchResults().put(service, results);
             }
         }
     }
 
+    /*
+     * The pattern and the results of the last completed search of a service.
+     */
+    private static final class PreviousSearch {
+
+        private final String pattern;
+
+        private final List<SearchResult<?>> results;
+
+        PreviousSearch(String pattern, List<SearchResult<?>> results) {
+            this.pattern = pattern;
+            this.results = Collections.unmodifiableList(new ArrayList<>(results));
+        }
+    }
+
     /**
      * A specialized list view for displaying search results.
      */
@@ -39,6 +39,31 @@ public interface OmniBoxService<T> {
 	 */
 	List<SearchResult<T>> search(SearchContext ctx, String pattern);
 
+	/**
+	 * Narrows down the results of a previous search to the results for the
+	 * given pattern. The {@link OmniBox} calls this method instead of
+	 * {@link #search(SearchContext, String)} when the new pattern extends the
+	 * previous one, e.g. because the user typed another character. Services
+	 * can opt in to this by filtering the previous results instead of running
+	 * a complete new search. The default implementation returns null.
+	 *
+	 * @param ctx
+	 *            a reference back to the context in which the search is
+	 *            running
+	 * @param previousPattern
+	 *            the pattern that was used to find the previous results
+	 * @param previousResults
+	 *            the results of the previous search (unmodifiable)
+	 * @param pattern
+	 *            the new search pattern, starting with the previous pattern
+	 * @return the list of search results or null if the service can not
+	 *         narrow down the previous results, in which case a regular search
+	 *         will be performed
+	 */
+	default List<SearchResult<T>> narrow(SearchContext ctx, String previousPattern, List<SearchResult<T>> previousResults, String pattern) {
+		return null;
+	}
+
 	/**
 	 * Returns an icon image for the service. This icon can be used by the view
 	 * to create a nice separation of the search results from different
@@ -0,0 +1,297 @@
+package com.dlsc.jfxcentral.views.autocomplete;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+
+/**
+ * A process-wide scheduler used by all {@link OmniBox} instances for running
+ * their searches. The scheduler uses a small, fixed number of worker threads,
+ * no matter how many sessions are typing at the same time.
+ * <p>
+ * Each owner (usually an {@link OmniBox}) can have at most one pending search.
+ * Submitting a new search for an owner supersedes the one that is still
+ * waiting for its delay to pass or for a free worker. Owners are served in
+ * the order in which they submitted their searches, so a single busy session
+ * can not starve the others.
+ * <p>
+ * The number of worker threads can be configured via the system property
+ * "jfxcentral.search.threads".
+ *
+ * @see OmniBox
+ */
+public final class OmniSearchScheduler {
+
+    private static final Logger LOG = Logger.getLogger(OmniSearchScheduler.class.getName());
+
+    private static final OmniSearchScheduler INSTANCE = new OmniSearchScheduler(Integer.getInteger("jfxcentral.search.threads", Math.max(2, Runtime.getRuntime().availableProcessors() / 2)));
+
+    private final ScheduledExecutorService timer;
+
+    private final ExecutorService workers;
+
+    private final int threads;
+
+    // owner -> search waiting for its delay to pass
+    private final Map<Object, ScheduledFuture<?>> delayed = new ConcurrentHashMap<>();
+
+    // owner -> search waiting for a worker, in submission order (guarded by "this")
+    private final LinkedHashMap<Object, Pending> queue = new LinkedHashMap<>();
+
+    private final AtomicLong submittedCount = new AtomicLong();
+    private final AtomicLong supersededCount = new AtomicLong();
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong totalWaitTime = new AtomicLong();
+    private final AtomicLong maxWaitTime = new AtomicLong();
+    private final AtomicLong totalRunTime = new AtomicLong();
+    private final AtomicLong maxRunTime = new AtomicLong();
+
+    private OmniSearchScheduler(int threads) {
+        this.threads = threads;
+        timer = Executors.newSingleThreadScheduledExecutor(new SearchThreadFactory("OmniBox Search Timer"));
+        workers = Executors.newFixedThreadPool(threads, new SearchThreadFactory("OmniBox Search Thread"));
+        LOG.fine("search scheduler started with " + threads + " worker threads");
+    }
+
+    /**
+     * Returns the scheduler shared by all search fields of this JVM.
+     *
+     * @return the scheduler
+     */
+    public static OmniSearchScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns an executor for the given owner that can be used by a
+     * {@link javafx.concurrent.Service}. Each runnable passed to the executor
+     * gets submitted to this scheduler after the given delay.
+     *
+     * @param owner the owner of the searches, e.g. an {@link OmniBox}
+     * @param delay supplies the delay in milliseconds before a search starts
+     * @return an executor for the owner
+     */
+    public Executor createExecutor(Object owner, LongSupplier delay) {
+        Objects.requireNonNull(owner);
+        Objects.requireNonNull(delay);
+        return runnable -> submit(owner, runnable, delay.getAsLong());
+    }
+
+    /**
+     * Submits a search for the given owner. A search of the same owner that
+     * has not been started, yet, will be superseded by the new one.
+     *
+     * @param owner    the owner of the search
+     * @param search   the search to run
+     * @param delayMillis the time to wait before the search gets queued
+     */
+    public void submit(Object owner, Runnable search, long delayMillis) {
+        submittedCount.incrementAndGet();
+
+        ScheduledFuture<?> previous;
+        if (delayMillis > 0) {
+            previous = delayed.put(owner, timer.schedule(() -> {
+                delayed.remove(owner);
+                enqueue(owner, search);
+            }, delayMillis, TimeUnit.MILLISECONDS));
+        } else {
+            previous = delayed.remove(owner);
+            enqueue(owner, search);
+        }
+
+        if (previous != null && previous.cancel(false)) {
+            supersededCount.incrementAndGet();
+        }
+    }
+
+    private void enqueue(Object owner, Runnable search) {
+        boolean newEntry;
+
+        synchronized (this) {
+            Pending previous = queue.put(owner, new Pending(search));
+            newEntry = previous == null;
+            if (!newEntry) {
+                supersededCount.incrementAndGet();
+            }
+        }
+
+        // one worker invocation per queue entry, replacing an entry keeps its position
+        if (newEntry) {
+            workers.execute(this::runNext);
+        }
+    }
+
+    private void runNext() {
+        Pending pending;
+
+        synchronized (this) {
+            Iterator<Pending> iterator = queue.values().iterator();
+            if (!iterator.hasNext()) {
+                return;
+            }
+            pending = iterator.next();
+            iterator.remove();
+        }
+
+        long start = System.nanoTime();
+        record(start - pending.queuedAt, totalWaitTime, maxWaitTime);
+
+        try {
+            pending.search.run();
+        } catch (RuntimeException ex) {
+            LOG.warning("search failed: " + ex.getMessage());
+        } finally {
+            // a cancelled search might have interrupted this worker
+            Thread.interrupted();
+
+            record(System.nanoTime() - start, totalRunTime, maxRunTime);
+            completedCount.incrementAndGet();
+        }
+    }
+
+    private static void record(long nanos, AtomicLong total, AtomicLong max) {
+        total.addAndGet(nanos);
+        max.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Returns the number of worker threads.
+     *
+     * @return the number of threads running searches
+     */
+    public int getThreadCount() {
+        return threads;
+    }
+
+    /**
+     * Returns the number of searches waiting for a free worker.
+     *
+     * @return the queue depth
+     */
+    public synchronized int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Returns the number of searches waiting for their delay to pass.
+     *
+     * @return the number of delayed searches
+     */
+    public int getDelayedCount() {
+        return delayed.size();
+    }
+
+    /**
+     * Returns the total number of submitted searches.
+     *
+     * @return the number of submitted searches
+     */
+    public long getSubmittedCount() {
+        return submittedCount.get();
+    }
+
+    /**
+     * Returns the number of searches that were dropped because a newer
+     * search of the same owner was submitted before they got started.
+     *
+     * @return the number of superseded searches
+     */
+    public long getSupersededCount() {
+        return supersededCount.get();
+    }
+
+    /**
+     * Returns the number of searches that have been executed.
+     *
+     * @return the number of completed searches
+     */
+    public long getCompletedCount() {
+        return completedCount.get();
+    }
+
+    /**
+     * Returns the average time in milliseconds that a search had to wait for a
+     * free worker.
+     *
+     * @return the average queue latency
+     */
+    public double getAverageWaitTime() {
+        return average(totalWaitTime);
+    }
+
+    /**
+     * Returns the maximum time in milliseconds that a search had to wait for a
+     * free worker.
+     *
+     * @return the maximum queue latency
+     */
+    public double getMaxWaitTime() {
+        return maxWaitTime.get() / 1_000_000d;
+    }
+
+    /**
+     * Returns the average time in milliseconds it took to run a search.
+     *
+     * @return the average run time
+     */
+    public double getAverageRunTime() {
+        return average(totalRunTime);
+    }
+
+    /**
+     * Returns the maximum time in milliseconds it took to run a search.
+     *
+     * @return the maximum run time
+     */
+    public double getMaxRunTime() {
+        return maxRunTime.get() / 1_000_000d;
+    }
+
+    private double average(AtomicLong total) {
+        long count = completedCount.get();
+        return count == 0 ? 0 : total.get() / 1_000_000d / count;
+    }
+
+    private static final class Pending {
+
+        private final Runnable search;
+
+        private final long queuedAt = System.nanoTime();
+
+        Pending(Runnable search) {
+            this.search = search;
+        }
+    }
+
+    private static final class SearchThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        private final String name;
+
+        SearchThreadFactory(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable);
+            thread.setName(name + " " + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
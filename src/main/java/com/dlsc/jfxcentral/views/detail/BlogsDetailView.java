@@ -1,5 +1,6 @@
 package com.dlsc.jfxcentral.views.detail;
 
+import com.dlsc.jfxcentral.cache.BlogPostCache;
 import com.dlsc.jfxcentral.data.DataRepository;
 import com.dlsc.jfxcentral.data.ImageManager;
 import com.dlsc.jfxcentral.data.model.Blog;
@@ -29,6 +30,7 @@ import org.apache.commons.lang3.StringUtils;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public class BlogsDetailView extends ModelObjectDetailView<Blog> {
 
@@ -51,47 +53,22 @@ public class BlogsDetailView extends ModelObjectDetailView<Blog> {
         selectedItemProperty().addListener(it -> {
             posts.clear();
 
-            if (loadPostsThread != null) {
-                loadPostsThread.cancel();
-            }
-
             Blog blog = getSelectedItem();
             if (blog != null) {
-                loadPostsThread = new LoadPostsThread(blog);
-                loadPostsThread.start();
+                CompletableFuture<List<Post>> future = BlogPostCache.getInstance().getPosts(blog);
+                if (future.isDone()) {
+                    posts.setAll(future.join());
+                } else {
+                    future.thenAccept(result -> Platform.runLater(() -> {
+                        if (blog == getSelectedItem()) {
+                            posts.setAll(result);
+                        }
+                    }));
+                }
             }
         });
     }
 
-    private LoadPostsThread loadPostsThread;
-
-    private final class LoadPostsThread extends Thread {
-        private final Blog blog;
-        private boolean running = true;
-
-        public LoadPostsThread(Blog blog) {
-            this.blog = blog;
-            setName("Load Posts Thread");
-            setDaemon(true);
-        }
-
-        @Override
-        public void run() {
-            if (running) {
-                List<Post> result = DataRepository.getInstance().loadPosts(blog);
-                Platform.runLater(() -> {
-                    if (running) {
-                        posts.setAll(result);
-                    }
-                });
-            }
-        }
-
-        public void cancel() {
-            running = false;
-        }
-    }
-
     protected boolean isUsingMasterView() {
         return true;
     }
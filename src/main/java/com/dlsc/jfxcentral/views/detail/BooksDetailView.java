@@ -1,5 +1,6 @@
 package com.dlsc.jfxcentral.views.detail;
 
+import com.dlsc.jfxcentral.cache.MarkdownStore;
 import com.dlsc.jfxcentral.data.DataRepository;
 import com.dlsc.jfxcentral.data.ImageManager;
 import com.dlsc.jfxcentral.data.model.Book;
@@ -39,7 +40,7 @@ public class BooksDetailView extends ModelObjectDetailView<Book> {
         dateTimeFormatter = DateTimeFormatter.ofLocalizedDate(FormatStyle.MEDIUM).withLocale(rootPane.getLocale());
 
         createTitleBox();
-        createReadMeBox(book -> DataRepository.getInstance().getRepositoryDirectoryURL() + "books/" + book.getId(), book -> DataRepository.getInstance().bookTextProperty(book));
+        createReadMeBox(book -> DataRepository.getInstance().getRepositoryDirectoryURL() + "books/" + book.getId(), book -> MarkdownStore.getInstance().bookTextProperty(book));
         createStandardBoxes();
     }
 
@@ -1,6 +1,6 @@
 package com.dlsc.jfxcentral.views.detail;
 
-import com.dlsc.jfxcentral.data.DataRepository;
+import com.dlsc.jfxcentral.cache.ArtifactVersionCache;
 import com.dlsc.jfxcentral.data.model.Coordinates;
 import com.dlsc.jfxcentral.panels.SectionPane;
 import com.dlsc.jfxcentral.views.MarkdownView;
@@ -8,8 +8,8 @@ import com.dlsc.jfxcentral.views.RootPane;
 import com.jpro.webapi.WebAPI;
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyStringProperty;
 import javafx.beans.property.SimpleObjectProperty;
-import javafx.beans.property.StringProperty;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.RadioButton;
@@ -90,7 +90,7 @@ public class CoordinatesPane extends SectionPane {
                         versionBadgeMarkdownView.setMdString(MessageFormat.format("[![Maven Central](https://img.shields.io/maven-central/v/{0}/{1}.png?label=Maven%20Central)](https://search.maven.org/search?q=g:%22{0}%22%20AND%20a:%22{1}%22)", groupId, artifactId));
                     }
 
-                    StringProperty versionProperty = DataRepository.getInstance().getArtifactVersion(coordinates);
+                    ReadOnlyStringProperty versionProperty = ArtifactVersionCache.getInstance().versionProperty(coordinates);
 
                     repositoryCoordinatesLabel.textProperty().bind(Bindings.createStringBinding(() -> {
                         if (getBuildTool().equals(BuildTool.MAVEN)) {
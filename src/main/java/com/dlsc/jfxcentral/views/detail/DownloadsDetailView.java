@@ -2,13 +2,13 @@ package com.dlsc.jfxcentral.views.detail;
 
 import com.dlsc.gemsfx.FilterView;
 import com.dlsc.jfxcentral.data.DataRepository;
-import com.dlsc.jfxcentral.data.model.Company;
 import com.dlsc.jfxcentral.data.model.Download;
 import com.dlsc.jfxcentral.data.model.Download.DownloadType;
 import com.dlsc.jfxcentral.data.model.Download.FileType;
-import com.dlsc.jfxcentral.data.model.Person;
 import com.dlsc.jfxcentral.panels.SectionPaneWithFilterView;
 import com.dlsc.jfxcentral.util.EmptySelectionModel;
+import com.dlsc.jfxcentral.util.FacetFilterSupport;
+import com.dlsc.jfxcentral.util.FilterSnapshot;
 import com.dlsc.jfxcentral.views.RootPane;
 import com.dlsc.jfxcentral.views.View;
 import com.dlsc.jfxcentral.views.detail.cells.DetailDownloadCell;
@@ -19,11 +19,6 @@ import javafx.beans.binding.Bindings;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
 
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
-import java.util.Optional;
-
 public class DownloadsDetailView extends DetailViewWithListView<Download> {
 
     private final FilterView.FilterGroup<Download> downloadTypeGroup = new FilterView.FilterGroup<>("Type");
@@ -36,6 +31,8 @@ public class DownloadsDetailView extends DetailViewWithListView<Download> {
 
     private final FilterView<Download> filterView;
 
+    private final FacetFilterSupport<Download> facetFilters;
+
     public DownloadsDetailView(RootPane rootPane) {
         super(rootPane, View.DOWNLOADS);
 
@@ -46,6 +43,7 @@ public class DownloadsDetailView extends DetailViewWithListView<Download> {
         sectionPane.setEnableAutoSubtitle(true);
 
         filterView = sectionPane.getFilterView();
+        facetFilters = new FacetFilterSupport<>(filterView);
         Bindings.bindContent(filterView.getItems(), DataRepository.getInstance().getDownloads());
 
         if (rootPane.isMobile()) {
@@ -102,67 +100,11 @@ public class DownloadsDetailView extends DetailViewWithListView<Download> {
     }
 
     private void updatePersonGroup() {
-        List<String> personList = new ArrayList<>();
-
-        DataRepository.getInstance().getDownloads().forEach(download -> {
-            List<String> personIds = download.getPersonIds();
-            if (personIds != null) {
-                for (String id : personIds) {
-                    if (!personList.contains(id.trim())) {
-                        personList.add(id.trim());
-                    }
-                }
-            }
-        });
-
-        List<FilterView.Filter<Download>> filters = new ArrayList<>();
-
-        personList.forEach(item -> {
-            Optional<Person> personById = DataRepository.getInstance().getPersonById(item);
-            if (personById.isPresent()) {
-                filters.add(new FilterView.Filter<>(personById.get().getName()) {
-                    @Override
-                    public boolean test(Download download) {
-                        return download.getPersonIds().contains(item);
-                    }
-                });
-            }
-        });
-
-        filters.sort(Comparator.comparing(x -> x.getName().toLowerCase()));
-        personGroup.getFilters().setAll(filters);
+        personGroup.getFilters().setAll(facetFilters.createFilters(FilterSnapshot.getInstance().getDownloads(), FilterSnapshot.PERSONS));
     }
 
     private void updateCompanyGroup() {
-        List<String> companyList = new ArrayList<>();
-
-        DataRepository.getInstance().getDownloads().forEach(download -> {
-            List<String> personIds = download.getPersonIds();
-            if (personIds != null) {
-                for (String id : personIds) {
-                    if (!companyList.contains(id.trim())) {
-                        companyList.add(id.trim());
-                    }
-                }
-            }
-        });
-
-        List<FilterView.Filter<Download>> filters = new ArrayList<>();
-
-        companyList.forEach(item -> {
-            Optional<Company> companyById = DataRepository.getInstance().getCompanyById(item);
-            if (companyById.isPresent()) {
-                filters.add(new FilterView.Filter<>(companyById.get().getName()) {
-                    @Override
-                    public boolean test(Download download) {
-                        return download.getCompanyIds().contains(item);
-                    }
-                });
-            }
-        });
-
-        filters.sort(Comparator.comparing(x -> x.getName().toLowerCase()));
-        companyGroup.getFilters().setAll(filters);
+        companyGroup.getFilters().setAll(facetFilters.createFilters(FilterSnapshot.getInstance().getDownloads(), FilterSnapshot.COMPANIES));
     }
 
     private void updateFileTypeGroup() {
@@ -8,6 +8,8 @@ import com.dlsc.jfxcentral.panels.SectionPane;
 import com.dlsc.jfxcentral.panels.SectionPaneWithFilterView;
 import com.dlsc.jfxcentral.util.Detector;
 import com.dlsc.jfxcentral.util.EmptySelectionModel;
+import com.dlsc.jfxcentral.util.FacetFilterSupport;
+import com.dlsc.jfxcentral.util.FilterSnapshot;
 import com.dlsc.jfxcentral.util.Util;
 import com.dlsc.jfxcentral.views.AdvancedListView;
 import com.dlsc.jfxcentral.views.MarkdownView;
@@ -18,7 +20,9 @@ import com.dlsc.jfxcentral.views.detail.cells.DetailNewsCell;
 import com.dlsc.jfxcentral.views.detail.cells.DetailRecentItemCell;
 import com.jpro.webapi.HTMLView;
 import com.jpro.webapi.WebAPI;
+import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
+import javafx.beans.WeakInvalidationListener;
 import javafx.beans.binding.Bindings;
 import javafx.collections.transformation.SortedList;
 import javafx.geometry.Pos;
@@ -30,7 +34,6 @@ import javafx.scene.control.Label;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.*;
 import javafx.scene.web.WebView;
-import org.apache.commons.lang3.StringUtils;
 import org.kordamp.ikonli.fontawesome5.FontAwesomeBrands;
 import org.kordamp.ikonli.javafx.FontIcon;
 import org.kordamp.ikonli.material.Material;
@@ -47,6 +50,17 @@ public class HomeDetailView extends DetailViewWithListView<News> {
     private final FilterView.FilterGroup<News> libraryGroup = new FilterView.FilterGroup<>("Library");
     private final FilterView.FilterGroup<News> timeGroup = new FilterView.FilterGroup<>("Publication Date");
 
+    private FacetFilterSupport<News> facetFilters;
+
+    // strongly referenced by the view, registered via weak listeners
+    private InvalidationListener darkModeListener;
+
+    // the web API the dark mode listener has been added to
+    private WebAPI observedWebAPI;
+
+    // the content currently shown by the html view
+    private String twitterContent;
+
     public HomeDetailView(RootPane rootPane) {
         super(rootPane, View.HOME);
 
@@ -72,11 +86,18 @@ public class HomeDetailView extends DetailViewWithListView<News> {
                 htmlView.setMinWidth(300);
                 htmlView.setMaxWidth(300);
 
+                darkModeListener = it -> updateTwitterContent(htmlView);
+
+                // the page gets reused, so the scene changes every time the user navigates back to it
                 sceneProperty().addListener(it -> {
                     Scene scene = getScene();
                     if (scene != null) {
-                        WebAPI.getWebAPI(scene).darkMode().addListener(it2 -> htmlView.setContent(getTwitterContent()));
-                        htmlView.setContent(getTwitterContent());
+                        WebAPI webAPI = WebAPI.getWebAPI(scene);
+                        if (webAPI != observedWebAPI) {
+                            observedWebAPI = webAPI;
+                            webAPI.darkMode().addListener(new WeakInvalidationListener(darkModeListener));
+                        }
+                        updateTwitterContent(htmlView);
                     }
                 });
 
@@ -89,10 +110,13 @@ public class HomeDetailView extends DetailViewWithListView<News> {
                 webView.setMaxWidth(300);
                 webView.getEngine().loadContent(getTwitterContent());
                 VBox.setVgrow(webView, Priority.ALWAYS);
-                JFXCentralApp.darkModeProperty().addListener(it -> {
+
+                // weak, the property is static and must not keep evicted pages alive
+                darkModeListener = it -> {
                     webView.getEngine().loadContent("");
                     webView.getEngine().loadContent(getTwitterContent());
-                });
+                };
+                JFXCentralApp.darkModeProperty().addListener(new WeakInvalidationListener(darkModeListener));
                 node = webView;
             }
 
@@ -125,6 +149,14 @@ public class HomeDetailView extends DetailViewWithListView<News> {
         }
     }
 
+    private void updateTwitterContent(HTMLView htmlView) {
+        String newContent = getTwitterContent();
+        if (!newContent.equals(twitterContent)) {
+            twitterContent = newContent;
+            htmlView.setContent(newContent);
+        }
+    }
+
     private String getTwitterContent() {
         if (WebAPI.isBrowser()) {
             if (WebAPI.getWebAPI(getScene()).isDarkMode()) {
@@ -143,6 +175,7 @@ public class HomeDetailView extends DetailViewWithListView<News> {
         sectionPane.setTitle("News");
 
         FilterView<News> filterView = sectionPane.getFilterView();
+        facetFilters = new FacetFilterSupport<>(filterView);
         Bindings.bindContent(filterView.getItems(), DataRepository.getInstance().getNews());
 
         if (!getRootPane().isMobile()) {
@@ -202,81 +235,15 @@ public class HomeDetailView extends DetailViewWithListView<News> {
     }
 
     private void updateSpeakersGroup() {
-        List<String> personList = new ArrayList<>();
-
-        DataRepository.getInstance().getNews().forEach(news -> {
-            List<String> personIds = news.getPersonIds();
-            for (String id : personIds) {
-                if (!personList.contains(id.trim())) {
-                    personList.add(id.trim());
-                }
-            }
-        });
-
-        List<FilterView.Filter<News>> filters = new ArrayList<>();
-
-        personList.forEach(item -> {
-            Optional<Person> personById = DataRepository.getInstance().getPersonById(item);
-            if (personById.isPresent()) {
-                filters.add(new FilterView.Filter<>(personById.get().getName()) {
-                    @Override
-                    public boolean test(News news) {
-                        return news.getPersonIds().contains(item);
-                    }
-                });
-            }
-        });
-
-        filters.sort(Comparator.comparing(x -> x.getName().toLowerCase()));
-        personGroup.getFilters().setAll(filters);
+        personGroup.getFilters().setAll(facetFilters.createFilters(FilterSnapshot.getInstance().getNews(), FilterSnapshot.PERSONS));
     }
 
     private void updateLibrariesGroup() {
-        List<String> librariesList = new ArrayList<>();
-
-        DataRepository.getInstance().getNews().forEach(news -> {
-            List<String> libraryIds = news.getLibraryIds();
-            for (String id : libraryIds) {
-                if (!librariesList.contains(id.trim())) {
-                    librariesList.add(id.trim());
-                }
-            }
-        });
-
-        List<FilterView.Filter<News>> filters = new ArrayList<>();
-
-        librariesList.forEach(item -> {
-            Optional<Library> libraryById = DataRepository.getInstance().getLibraryById(item);
-            if (libraryById.isPresent()) {
-                filters.add(new FilterView.Filter<>(libraryById.get().getName()) {
-                    @Override
-                    public boolean test(News news) {
-                        return news.getLibraryIds().contains(item);
-                    }
-                });
-            }
-        });
-
-        filters.sort(Comparator.comparing(x -> x.getName().toLowerCase()));
-        libraryGroup.getFilters().setAll(filters);
+        libraryGroup.getFilters().setAll(facetFilters.createFilters(FilterSnapshot.getInstance().getNews(), FilterSnapshot.LIBRARIES));
     }
 
     private void updateTypeGroup() {
-        List<News.Type> usedTypesList = new ArrayList<>();
-        DataRepository.getInstance().getNews().forEach(news -> {
-            News.Type type = news.getType();
-            if (!usedTypesList.contains(type)) {
-                usedTypesList.add(type);
-            }
-        });
-
-        Collections.sort(usedTypesList);
-        usedTypesList.forEach(type -> typeGroup.getFilters().add(new FilterView.Filter<>(StringUtils.capitalize(type.name().toLowerCase())) {
-            @Override
-            public boolean test(News news) {
-                return Objects.equals(news.getType(), type);
-            }
-        }));
+        typeGroup.getFilters().setAll(facetFilters.createFilters(FilterSnapshot.getInstance().getNews(), FilterSnapshot.TYPES));
     }
 
     private void createWelcomeSection() {
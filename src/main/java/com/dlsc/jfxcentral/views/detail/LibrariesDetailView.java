@@ -1,6 +1,7 @@
 package com.dlsc.jfxcentral.views.detail;
 
 import com.dlsc.jfxcentral.JFXCentralApp;
+import com.dlsc.jfxcentral.cache.MarkdownStore;
 import com.dlsc.jfxcentral.data.DataRepository;
 import com.dlsc.jfxcentral.data.ImageManager;
 import com.dlsc.jfxcentral.data.model.Library;
@@ -38,7 +39,7 @@ public class LibrariesDetailView extends ModelObjectDetailView<Library> {
         createEnsembleBox();
         createScreenshotsBox();
         createCoordinatesBox();
-        createReadMeBox(library -> DataRepository.getInstance().getRepositoryDirectoryURL() + "libraries/" + library.getId(), library -> DataRepository.getInstance().libraryReadMeProperty(library));
+        createReadMeBox(library -> DataRepository.getInstance().getRepositoryDirectoryURL() + "libraries/" + library.getId(), library -> MarkdownStore.getInstance().libraryReadMeProperty(library));
         createStandardBoxes();
     }
 
@@ -10,7 +10,7 @@ import com.dlsc.jfxcentral.views.RootPane;
 import com.dlsc.jfxcentral.views.View;
 import com.dlsc.jfxcentral.views.detail.cells.*;
 import javafx.beans.binding.Bindings;
-import javafx.beans.property.StringProperty;
+import javafx.beans.value.ObservableStringValue;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.scene.control.ListCell;
@@ -53,15 +53,15 @@ public abstract class ModelObjectDetailView<T extends ModelObject> extends Detai
         return true;
     }
 
-    protected void createReadMeBox(Callback<T, String> baseUrlProvider, Callback<T, StringProperty> textPropertyProvider) {
+    protected void createReadMeBox(Callback<T, String> baseUrlProvider, Callback<T, ObservableStringValue> textPropertyProvider) {
         createReadMeBox("Readme", baseUrlProvider, textPropertyProvider);
     }
 
-    protected SectionPane createReadMeBox(String title, Callback<T, String> baseUrlProvider, Callback<T, StringProperty> textPropertyProvider) {
+    protected SectionPane createReadMeBox(String title, Callback<T, String> baseUrlProvider, Callback<T, ObservableStringValue> textPropertyProvider) {
         SectionPane sectionPane = new SectionPane();
         sectionPane.setTitle(title);
 
-        MarkdownView markdownView = new MarkdownView();
+        MarkdownView markdownView = new MarkdownView(true);
         sectionPane.getNodes().add(markdownView);
 
         selectedItemProperty().addListener(it -> {
@@ -2,12 +2,15 @@ package com.dlsc.jfxcentral.views.detail;
 
 import com.dlsc.gemsfx.FilterView;
 import com.dlsc.jfxcentral.JFXCentralApp;
+import com.dlsc.jfxcentral.cache.PullRequestCache;
 import com.dlsc.jfxcentral.data.DataRepository;
 import com.dlsc.jfxcentral.data.pull.PullRequest;
 import com.dlsc.jfxcentral.panels.SectionPane;
 import com.dlsc.jfxcentral.panels.SectionPaneWithFilterView;
 import com.dlsc.jfxcentral.util.Detector;
 import com.dlsc.jfxcentral.util.EmptySelectionModel;
+import com.dlsc.jfxcentral.util.FacetFilterSupport;
+import com.dlsc.jfxcentral.util.FacetIndex;
 import com.dlsc.jfxcentral.util.FilterUtil;
 import com.dlsc.jfxcentral.util.Util;
 import com.dlsc.jfxcentral.views.AdvancedListView;
@@ -17,10 +20,8 @@ import com.dlsc.jfxcentral.views.View;
 import com.dlsc.jfxcentral.views.detail.cells.DetailPullRequestCell;
 import com.jpro.webapi.HTMLView;
 import com.jpro.webapi.WebAPI;
-import javafx.application.Platform;
-import javafx.beans.binding.Bindings;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
 import javafx.geometry.Insets;
 import javafx.scene.Node;
 import javafx.scene.Scene;
@@ -33,22 +34,38 @@ import javafx.scene.layout.VBox;
 import javafx.scene.web.WebView;
 import org.apache.commons.lang3.StringUtils;
 
-import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Collectors;
 
 public class OpenJFXDetailView extends DetailView {
 
     private VBox content = new VBox(20);
 
-    // static, shared across UI instances
-    private static final ObservableList<PullRequest> pullRequests = FXCollections.observableArrayList();
+    private static final String STATES = "states";
+    private static final String LABELS = "labels";
+    private static final String USERS = "users";
+
+    // static, the facets of the pull requests shared across UI instances (only used on the UI thread)
+    private static FacetIndex<PullRequest> pullRequestIndex;
+    private static List<PullRequest> indexedPullRequests;
 
-    private static ZonedDateTime pullRequestUpdateTime;
     private FilterView<PullRequest> filterView;
+    private FacetFilterSupport<PullRequest> facetFilters;
+
+    private final InvalidationListener pullRequestsListener = it -> updatePullRequests();
+
+    // strongly referenced by the view, registered via weak listeners
+    private InvalidationListener darkModeListener;
+
+    // the web API the dark mode listener has been added to
+    private WebAPI observedWebAPI;
+
+    // the content currently shown by the html view
+    private String twitterContent;
 
     public OpenJFXDetailView(RootPane rootPane) {
         super(rootPane, View.OPENJFX);
@@ -74,23 +91,12 @@ public class OpenJFXDetailView extends DetailView {
 
         createPullRequests();
 
-        // using static update time field as this will be for shared clients on the web server
-        if (pullRequestUpdateTime == null || Duration.between(pullRequestUpdateTime, ZonedDateTime.now()).toHours() > 3) {
-            Thread thread = new Thread(() -> {
-                List<PullRequest> result = DataRepository.getInstance().loadPullRequests();
-                Platform.runLater(() -> {
-                    pullRequests.setAll(result);
-                    updateFilters();
-                });
-            });
-            thread.setDaemon(true);
-            thread.setName("OpenJFX PR Thread");
-            thread.start();
+        // the cache is shared by all clients on the web server and refreshes itself in the background
+        PullRequestCache cache = PullRequestCache.getInstance();
+        cache.start();
+        cache.pullRequestsProperty().addListener(new WeakInvalidationListener(pullRequestsListener));
 
-            pullRequestUpdateTime = ZonedDateTime.now();
-        }
-
-        updateFilters();
+        updatePullRequests();
 
         if (rootPane.isMobile()) {
             // no Twitter feed on mobile
@@ -106,11 +112,18 @@ public class OpenJFXDetailView extends DetailView {
                 htmlView.setMinWidth(300);
                 htmlView.setMaxWidth(300);
 
+                darkModeListener = it -> updateTwitterContent(htmlView);
+
+                // the page gets reused, so the scene changes every time the user navigates back to it
                 sceneProperty().addListener(it -> {
                     Scene scene = getScene();
                     if (scene != null) {
-                        WebAPI.getWebAPI(scene).darkMode().addListener(it2 -> htmlView.setContent(getTwitterContent()));
-                        htmlView.setContent(getTwitterContent());
+                        WebAPI webAPI = WebAPI.getWebAPI(scene);
+                        if (webAPI != observedWebAPI) {
+                            observedWebAPI = webAPI;
+                            webAPI.darkMode().addListener(new WeakInvalidationListener(darkModeListener));
+                        }
+                        updateTwitterContent(htmlView);
                     }
                 });
 
@@ -123,10 +136,13 @@ public class OpenJFXDetailView extends DetailView {
                 webView.setMaxWidth(300);
                 webView.getEngine().loadContent(getTwitterContent());
                 VBox.setVgrow(webView, Priority.ALWAYS);
-                JFXCentralApp.darkModeProperty().addListener(it -> {
+
+                // weak, the property is static and must not keep evicted pages alive
+                darkModeListener = it -> {
                     webView.getEngine().loadContent("");
                     webView.getEngine().loadContent(getTwitterContent());
-                });
+                };
+                JFXCentralApp.darkModeProperty().addListener(new WeakInvalidationListener(darkModeListener));
                 node = webView;
             }
 
@@ -138,6 +154,14 @@ public class OpenJFXDetailView extends DetailView {
         }
     }
 
+    private void updateTwitterContent(HTMLView htmlView) {
+        String newContent = getTwitterContent();
+        if (!newContent.equals(twitterContent)) {
+            twitterContent = newContent;
+            htmlView.setContent(newContent);
+        }
+    }
+
     private String getTwitterContent() {
         if (WebAPI.isBrowser()) {
             if (WebAPI.getWebAPI(getScene()).isDarkMode()) {
@@ -151,87 +175,51 @@ public class OpenJFXDetailView extends DetailView {
         return "<a class=\"twitter-timeline\" data-chrome=\"transparent noscrollbar\" href=\"https://twitter.com/jfxcentral?ref_src=twsrc%5Etfw\">Tweets by JFX-Central</a> <script async src=\"https://platform.twitter.com/widgets.js\" charset=\"utf-8\"></script>";
     }
 
+    private void updatePullRequests() {
+        filterView.getItems().setAll(PullRequestCache.getInstance().getPullRequests());
+        updateFilters();
+    }
+
     private void updateFilters() {
         FilterView.FilterGroup<PullRequest> stateGroup = new FilterView.FilterGroup<>("State");
         FilterView.FilterGroup<PullRequest> labelGroup = new FilterView.FilterGroup<>("Label");
         FilterView.FilterGroup<PullRequest> userGroup = new FilterView.FilterGroup<>("User");
         FilterView.FilterGroup<PullRequest> timeGroup = new FilterView.FilterGroup<>("Time");
 
-        updateStateGroup(stateGroup);
-        updateLabelGroup(labelGroup);
-        updateUserGroup(userGroup);
+        List<PullRequest> pullRequests = PullRequestCache.getInstance().getPullRequests();
+        if (pullRequests != indexedPullRequests) {
+            pullRequestIndex = createIndex(pullRequests);
+            indexedPullRequests = pullRequests;
+        }
+        FacetIndex<PullRequest> index = pullRequestIndex;
+
+        stateGroup.getFilters().setAll(facetFilters.createFilters(index, STATES));
+        labelGroup.getFilters().setAll(facetFilters.createFilters(index, LABELS));
+        userGroup.getFilters().setAll(facetFilters.createFilters(index, USERS));
 
         FilterUtil.createFilters(timeGroup, "Date", pr -> DateTimeFormatter.ISO_DATE_TIME.parse(pr.getUpdatedAt() != null ? pr.getUpdatedAt() : pr.getCreatedAt(), ZonedDateTime::from));
 
         filterView.getFilterGroups().setAll(stateGroup, labelGroup, userGroup, timeGroup);
     }
 
-    private void updateUserGroup(FilterView.FilterGroup<PullRequest> userGroup) {
-        List<String> userList = new ArrayList<>();
-
-        pullRequests.forEach(pr -> {
-            String id = pr.getUser().getLogin();
-            if (!userList.contains(id.trim())) {
-                userList.add(id.trim());
-            }
-        });
-
-        List<FilterView.Filter<PullRequest>> filters = new ArrayList<>();
-
-        userList.forEach(item -> filters.add(new FilterView.Filter<>(item) {
-            @Override
-            public boolean test(PullRequest pr) {
-                return pr.getUser().getLogin().equals(item);
-            }
-        }));
-
-        filters.sort(Comparator.comparing(x -> x.getName().toLowerCase()));
-        userGroup.getFilters().setAll(filters);
-    }
-
-    private void updateStateGroup(FilterView.FilterGroup<PullRequest> stateGroup) {
-        List<String> stateList = new ArrayList<>();
-        stateList.add("open");
-        stateList.add("closed");
-
-        List<FilterView.Filter<PullRequest>> filters = new ArrayList<>();
-
-        stateList.forEach(item -> filters.add(new FilterView.Filter<>(item) {
-            @Override
-            public boolean test(PullRequest pr) {
-                return pr.getState().equals(item);
-            }
-        }));
-
-        stateGroup.getFilters().setAll(filters);
-    }
-
-    private void updateLabelGroup(FilterView.FilterGroup<PullRequest> labelGroup) {
-        List<String> labels = new ArrayList<>();
-
-        System.out.println("pr size: " + pullRequests.size());
-        pullRequests.forEach(pr -> {
-            pr.getLabels().forEach(label -> {
-                if (!labels.contains(label.getName())) {
-                    labels.add(label.getName());
-                }
-            });
-        });
-
-        List<FilterView.Filter<PullRequest>> filters = new ArrayList<>();
-
-        labels.forEach(item -> {
-            System.out.println("item: " + item);
-            filters.add(new FilterView.Filter<>(item) {
-                @Override
-                public boolean test(PullRequest pr) {
-                    return pr.getLabels().stream().anyMatch(label -> label.getName().equals(item));
-                }
-            });
-        });
-
-        filters.sort(Comparator.comparing(x -> x.getName().toLowerCase()));
-        labelGroup.getFilters().setAll(filters);
+    /*
+     * Computes the states, labels, and users of the given pull requests once
+     * instead of every time the page gets opened.
+     */
+    private static FacetIndex<PullRequest> createIndex(List<PullRequest> pullRequests) {
+        Comparator<FacetIndex.Facet<PullRequest>> byLabel = Comparator.comparing(facet -> facet.getLabel().toLowerCase());
+
+        return FacetIndex.builder(pullRequests)
+                .addGroup(STATES, pr -> List.of("open", "closed"), state -> state, (pr, state) -> state.equals(pr.getState()), null)
+                .addGroup(LABELS, pr -> pr.getLabels() != null ? pr.getLabels().stream().map(label -> label.getName()).collect(Collectors.toList()) : null,
+                        label -> label,
+                        (pr, name) -> pr.getLabels() != null && pr.getLabels().stream().anyMatch(label -> label.getName().equals(name)),
+                        byLabel)
+                .addGroup(USERS, pr -> pr.getUser() != null ? Collections.singletonList(pr.getUser().getLogin().trim()) : null,
+                        login -> login,
+                        (pr, login) -> pr.getUser() != null && pr.getUser().getLogin().trim().equals(login),
+                        byLabel)
+                .build();
     }
 
     private void createHeader() {
@@ -257,8 +245,7 @@ public class OpenJFXDetailView extends DetailView {
         sectionPane.setTitle("Pull Requests");
 
         filterView = sectionPane.getFilterView();
-
-        Bindings.bindContent(filterView.getItems(), pullRequests);
+        facetFilters = new FacetFilterSupport<>(filterView);
 
         if (!getRootPane().isMobile()) {
             filterView.setTextFilterProvider(text -> pullRequest -> {
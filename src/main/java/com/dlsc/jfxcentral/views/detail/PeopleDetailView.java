@@ -1,5 +1,6 @@
 package com.dlsc.jfxcentral.views.detail;
 
+import com.dlsc.jfxcentral.cache.MarkdownStore;
 import com.dlsc.jfxcentral.data.DataRepository;
 import com.dlsc.jfxcentral.data.ImageManager;
 import com.dlsc.jfxcentral.data.model.Person;
@@ -66,7 +67,7 @@ public class PeopleDetailView extends ModelObjectDetailView<Person> {
             rockstarImageView.setVisible(person.isRockstar());
 
             responsiveBox.setTitle(person.getName());
-            responsiveBox.descriptionProperty().bind(DataRepository.getInstance().personDescriptionProperty(person));
+            responsiveBox.descriptionProperty().bind(MarkdownStore.getInstance().personDescriptionProperty(person));
             responsiveBox.imageProperty().bind(ImageManager.getInstance().personImageProperty(person));
             responsiveBox.getExtraControls().clear();
 
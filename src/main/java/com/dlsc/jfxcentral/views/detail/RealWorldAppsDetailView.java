@@ -1,5 +1,6 @@
 package com.dlsc.jfxcentral.views.detail;
 
+import com.dlsc.jfxcentral.cache.MarkdownStore;
 import com.dlsc.jfxcentral.data.DataRepository;
 import com.dlsc.jfxcentral.data.ImageManager;
 import com.dlsc.jfxcentral.data.model.RealWorldApp;
@@ -60,7 +61,7 @@ public class RealWorldAppsDetailView extends ModelObjectDetailView<RealWorldApp>
         sectionPane.setTitle("Description");
         sectionPane.setSubtitle("Information about the application and screenshots");
 
-        MarkdownView markdownView = new MarkdownView();
+        MarkdownView markdownView = new MarkdownView(true);
         markdownView.setOnImageClick(image -> getRootPane().showImage(getSelectedItem().getName(), image));
         sectionPane.getNodes().add(markdownView);
 
@@ -70,7 +71,7 @@ public class RealWorldAppsDetailView extends ModelObjectDetailView<RealWorldApp>
                 sectionPane.setTitle(app.getName());
                 sectionPane.setSubtitle(app.getSummary());
                 markdownView.setBaseURL(DataRepository.getInstance().getRepositoryDirectoryURL() + "realworld/" + app.getId());
-                markdownView.mdStringProperty().bind(DataRepository.getInstance().realWorldAppDescriptionProperty(getSelectedItem()));
+                markdownView.mdStringProperty().bind(MarkdownStore.getInstance().realWorldAppDescriptionProperty(getSelectedItem()));
             } else {
                 sectionPane.setTitle("");
                 sectionPane.setSubtitle("");
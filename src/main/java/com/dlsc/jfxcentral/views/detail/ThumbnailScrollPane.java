@@ -1,5 +1,6 @@
 package com.dlsc.jfxcentral.views.detail;
 
+import com.dlsc.jfxcentral.cache.ThumbnailStore;
 import com.dlsc.jfxcentral.data.ImageManager;
 import com.dlsc.jfxcentral.data.model.Image;
 import com.dlsc.jfxcentral.data.model.Library;
@@ -83,7 +84,13 @@ public class ThumbnailScrollPane extends ScrollPane {
                 imageView.setFitWidth(100);
                 imageView.setFitHeight(100);
                 imageView.setPreserveRatio(true);
-                imageView.imageProperty().bind(ImageManager.getInstance().libraryImageProperty(library, image.getPath()));
+
+                javafx.scene.image.Image thumbnail = ThumbnailStore.getInstance().getThumbnail("libraries/" + library.getId() + "/" + image.getPath(), 100);
+                if (thumbnail != null) {
+                    imageView.setImage(thumbnail);
+                } else {
+                    imageView.imageProperty().bind(ImageManager.getInstance().libraryImageProperty(library, image.getPath()));
+                }
 
                 final int imageIndex = i;
 
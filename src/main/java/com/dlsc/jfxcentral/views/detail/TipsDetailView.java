@@ -1,5 +1,6 @@
 package com.dlsc.jfxcentral.views.detail;
 
+import com.dlsc.jfxcentral.cache.MarkdownStore;
 import com.dlsc.jfxcentral.data.DataRepository;
 import com.dlsc.jfxcentral.data.model.Person;
 import com.dlsc.jfxcentral.data.model.Tip;
@@ -29,7 +30,7 @@ public class TipsDetailView extends ModelObjectDetailView<Tip> {
 //        createTitleBox();
         SectionPane readMeBox = createReadMeBox(null,
                 tip -> DataRepository.getInstance().getRepositoryDirectoryURL() + "tips/" + tip.getId(),
-                tip -> DataRepository.getInstance().tipDescriptionProperty(getSelectedItem()));
+                tip -> MarkdownStore.getInstance().tipDescriptionProperty(tip));
         readMeBox.titleProperty().bind(Bindings.createStringBinding(() -> getSelectedItem() != null ? getSelectedItem().getName() : "", selectedItemProperty()));
         readMeBox.subtitleProperty().bind(Bindings.createStringBinding(() -> getSelectedItem() != null ? getSelectedItem().getSummary() : "", selectedItemProperty()));
         createStandardBoxes();
@@ -1,5 +1,6 @@
 package com.dlsc.jfxcentral.views.detail;
 
+import com.dlsc.jfxcentral.cache.MarkdownStore;
 import com.dlsc.jfxcentral.data.DataRepository;
 import com.dlsc.jfxcentral.data.ImageManager;
 import com.dlsc.jfxcentral.data.model.Tool;
@@ -107,14 +108,14 @@ public class ToolsDetailView extends ModelObjectDetailView<Tool> {
         SectionPane sectionPane = new SectionPane();
         sectionPane.setTitle("Readme");
 
-        MarkdownView markdownView = new MarkdownView();
+        MarkdownView markdownView = new MarkdownView(true);
         sectionPane.getNodes().add(markdownView);
 
         selectedItemProperty().addListener(it -> {
             Tool tool = getSelectedItem();
             if (tool != null) {
                 markdownView.setBaseURL(DataRepository.getInstance().getRepositoryDirectoryURL() + "tools/" + tool.getId());
-                markdownView.mdStringProperty().bind(DataRepository.getInstance().toolDescriptionProperty(getSelectedItem()));
+                markdownView.mdStringProperty().bind(MarkdownStore.getInstance().toolDescriptionProperty(getSelectedItem()));
             }
         });
 
@@ -2,10 +2,12 @@ package com.dlsc.jfxcentral.views.detail;
 
 import com.dlsc.gemsfx.FilterView;
 import com.dlsc.jfxcentral.data.DataRepository;
-import com.dlsc.jfxcentral.data.model.Person;
 import com.dlsc.jfxcentral.data.model.Video;
 import com.dlsc.jfxcentral.panels.SectionPaneWithFilterView;
 import com.dlsc.jfxcentral.util.EmptySelectionModel;
+import com.dlsc.jfxcentral.util.FacetFilterSupport;
+import com.dlsc.jfxcentral.util.FacetIndex;
+import com.dlsc.jfxcentral.util.FilterSnapshot;
 import com.dlsc.jfxcentral.views.AdvancedListView;
 import com.dlsc.jfxcentral.views.RootPane;
 import com.dlsc.jfxcentral.views.View;
@@ -18,8 +20,6 @@ import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
 import org.apache.commons.lang3.StringUtils;
 
-import java.util.*;
-
 public class VideosDetailView extends DetailViewWithListView<Video> {
 
     private final FilterView.FilterGroup<Video> typeGroup = new FilterView.FilterGroup<>("Type");
@@ -33,6 +33,8 @@ public class VideosDetailView extends DetailViewWithListView<Video> {
 
     private final FilterView<Video> filterView;
 
+    private final FacetFilterSupport<Video> facetFilters;
+
     public VideosDetailView(RootPane rootPane) {
         super(rootPane, View.VIDEOS);
 
@@ -43,6 +45,7 @@ public class VideosDetailView extends DetailViewWithListView<Video> {
         sectionPane.setEnableAutoSubtitle(true);
 
         filterView = sectionPane.getFilterView();
+        facetFilters = new FacetFilterSupport<>(filterView);
         Bindings.bindContent(filterView.getItems(), DataRepository.getInstance().getVideos());
 
         // show less filters, we have less space (width)
@@ -97,144 +100,12 @@ public class VideosDetailView extends DetailViewWithListView<Video> {
     }
 
     private void updateFilters() {
-        eventGroup.getFilters().clear();
-        typeGroup.getFilters().clear();
-        domainGroup.getFilters().clear();
-        speakerGroup.getFilters().clear();
-        platformGroup.getFilters().clear();
-
-        updateEventGroup();
-        updateDomainGroup();
-        updateTypeGroup();
-        updatePlatformGroup();
-        updateSpeakersGroup();
-    }
-
-    private void updateSpeakersGroup() {
-        List<String> speakersList = new ArrayList<>();
-
-        DataRepository.getInstance().getVideos().forEach(video -> {
-            List<String> personIds = video.getPersonIds();
-            if (personIds != null) {
-                for (String id : personIds) {
-                    if (!speakersList.contains(id.trim())) {
-                        speakersList.add(id.trim());
-                    }
-                }
-            }
-        });
-
-        List<FilterView.Filter<Video>> filters = new ArrayList<>();
-
-        speakersList.forEach(item -> {
-            Optional<Person> personById = DataRepository.getInstance().getPersonById(item);
-            if (personById.isPresent()) {
-                filters.add(new FilterView.Filter<>(personById.get().getName()) {
-                    @Override
-                    public boolean test(Video video) {
-                        return video.getPersonIds().contains(item);
-                    }
-                });
-            }
-        });
-
-        filters.sort(Comparator.comparing(x -> x.getName().toLowerCase()));
-        speakerGroup.getFilters().setAll(filters);
-    }
-
-    private void updateEventGroup() {
-        List<String> itemList = new ArrayList<>();
-        DataRepository.getInstance().getVideos().forEach(video -> {
-            String event = video.getEvent();
-            if (StringUtils.isNotBlank(event)) {
-                StringTokenizer st = new StringTokenizer(event, ",");
-                while (st.hasMoreTokens()) {
-                    String token = st.nextToken().trim();
-                    if (!itemList.contains(token)) {
-                        itemList.add(token);
-                    }
-                }
-            }
-        });
-
-        Collections.sort(itemList);
-        itemList.forEach(item -> eventGroup.getFilters().add(new FilterView.Filter<>(item) {
-            @Override
-            public boolean test(Video video) {
-                return StringUtils.containsIgnoreCase(video.getEvent(), item);
-            }
-        }));
-    }
+        FacetIndex<Video> index = FilterSnapshot.getInstance().getVideos();
 
-    private void updateDomainGroup() {
-        List<String> itemList = new ArrayList<>();
-        DataRepository.getInstance().getVideos().forEach(video -> {
-            String domain = video.getDomain();
-            if (StringUtils.isNotBlank(domain)) {
-                StringTokenizer st = new StringTokenizer(domain, ",");
-                while (st.hasMoreTokens()) {
-                    String token = st.nextToken().trim();
-                    if (!itemList.contains(token)) {
-                        itemList.add(token);
-                    }
-                }
-            }
-        });
-
-        Collections.sort(itemList);
-        itemList.forEach(item -> domainGroup.getFilters().add(new FilterView.Filter<>(item) {
-            @Override
-            public boolean test(Video video) {
-                return StringUtils.containsIgnoreCase(video.getDomain(), item);
-            }
-        }));
-    }
-
-    private void updatePlatformGroup() {
-        List<String> itemList = new ArrayList<>();
-        DataRepository.getInstance().getVideos().forEach(video -> {
-            String platform = video.getPlatform();
-            if (StringUtils.isNotBlank(platform)) {
-                StringTokenizer st = new StringTokenizer(platform, ",");
-                while (st.hasMoreTokens()) {
-                    String token = st.nextToken().trim();
-                    if (!itemList.contains(token)) {
-                        itemList.add(token);
-                    }
-                }
-            }
-        });
-
-        Collections.sort(itemList);
-        itemList.forEach(item -> platformGroup.getFilters().add(new FilterView.Filter<>(item) {
-            @Override
-            public boolean test(Video video) {
-                return StringUtils.containsIgnoreCase(video.getPlatform(), item);
-            }
-        }));
-    }
-
-    private void updateTypeGroup() {
-        List<String> itemList = new ArrayList<>();
-        DataRepository.getInstance().getVideos().forEach(video -> {
-            String type = video.getType();
-            if (StringUtils.isNotBlank(type)) {
-                StringTokenizer st = new StringTokenizer(type, ",");
-                while (st.hasMoreTokens()) {
-                    String token = st.nextToken().trim();
-                    if (!itemList.contains(token)) {
-                        itemList.add(token);
-                    }
-                }
-            }
-        });
-
-        Collections.sort(itemList);
-        itemList.forEach(item -> typeGroup.getFilters().add(new FilterView.Filter<>(item) {
-            @Override
-            public boolean test(Video video) {
-                return StringUtils.containsIgnoreCase(video.getType(), item);
-            }
-        }));
+        eventGroup.getFilters().setAll(facetFilters.createFilters(index, FilterSnapshot.EVENTS));
+        domainGroup.getFilters().setAll(facetFilters.createFilters(index, FilterSnapshot.DOMAINS));
+        typeGroup.getFilters().setAll(facetFilters.createFilters(index, FilterSnapshot.TYPES));
+        platformGroup.getFilters().setAll(facetFilters.createFilters(index, FilterSnapshot.PLATFORMS));
+        speakerGroup.getFilters().setAll(facetFilters.createFilters(index, FilterSnapshot.PERSONS));
     }
-}
\ No newline at end of file
+}
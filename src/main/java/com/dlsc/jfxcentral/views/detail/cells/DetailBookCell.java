@@ -1,6 +1,6 @@
 package com.dlsc.jfxcentral.views.detail.cells;
 
-import com.dlsc.jfxcentral.data.DataRepository;
+import com.dlsc.jfxcentral.cache.MarkdownStore;
 import com.dlsc.jfxcentral.data.ImageManager;
 import com.dlsc.jfxcentral.data.model.Book;
 import com.dlsc.jfxcentral.util.PageUtil;
@@ -55,7 +55,7 @@ public class DetailBookCell extends DetailCell<Book> {
             responsiveBox.setTitle(item.getName());
             Util.setLink(responsiveBox.getTitleLabel(), PageUtil.getLink(item), item.getName());
             responsiveBox.setSubtitle(item.getSubtitle());
-            responsiveBox.descriptionProperty().bind(DataRepository.getInstance().bookTextProperty(item));
+            responsiveBox.descriptionProperty().bind(MarkdownStore.getInstance().bookTextProperty(item));
 
             homepageButton.setVisible(StringUtils.isNotEmpty(item.getUrl()));
             homepageButton.setManaged(StringUtils.isNotEmpty(item.getUrl()));
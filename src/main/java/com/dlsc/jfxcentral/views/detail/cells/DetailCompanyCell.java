@@ -1,6 +1,6 @@
 package com.dlsc.jfxcentral.views.detail.cells;
 
-import com.dlsc.jfxcentral.data.DataRepository;
+import com.dlsc.jfxcentral.cache.MarkdownStore;
 import com.dlsc.jfxcentral.data.ImageManager;
 import com.dlsc.jfxcentral.data.model.Company;
 import com.dlsc.jfxcentral.util.PageUtil;
@@ -49,7 +49,7 @@ public class DetailCompanyCell extends DetailCell<Company> {
             if (!primaryView) {
                 Util.setLink(responsiveBox.getTitleLabel(), PageUtil.getLink(company), company.getName());
             }
-            responsiveBox.descriptionProperty().bind(DataRepository.getInstance().companyDescriptionProperty(company));
+            responsiveBox.descriptionProperty().bind(MarkdownStore.getInstance().companyDescriptionProperty(company));
             responsiveBox.imageProperty().bind(ImageManager.getInstance().companyImageProperty(company));
 
             Util.setLink(homepageButton, getItem().getHomepage(), getItem().getName());
@@ -1,5 +1,6 @@
 package com.dlsc.jfxcentral.views.detail.cells;
 
+import com.dlsc.jfxcentral.cache.MarkdownStore;
 import com.dlsc.jfxcentral.data.DataRepository;
 import com.dlsc.jfxcentral.data.ImageManager;
 import com.dlsc.jfxcentral.data.model.Download;
@@ -85,7 +86,7 @@ public class DetailDownloadCell extends DetailCell<Download> {
                 Util.setLink(responsiveBox.getTitleLabel(), PageUtil.getLink(download), download.getName());
             }
 
-            responsiveBox.descriptionProperty().bind(DataRepository.getInstance().downloadTextProperty(download));
+            responsiveBox.descriptionProperty().bind(MarkdownStore.getInstance().downloadTextProperty(download));
             responsiveBox.imageProperty().bind(ImageManager.getInstance().downloadBannerImageProperty(download));
 
             if (StringUtils.isNotBlank(download.getHomepage())) {
@@ -1,5 +1,6 @@
 package com.dlsc.jfxcentral.views.detail.cells;
 
+import com.dlsc.jfxcentral.cache.MarkdownStore;
 import com.dlsc.jfxcentral.data.DataRepository;
 import com.dlsc.jfxcentral.data.ImageManager;
 import com.dlsc.jfxcentral.data.model.Blog;
@@ -55,7 +56,7 @@ public class DetailPersonCell extends DetailCell<Person> {
         if (!empty && person != null) {
             responsiveBox.setTitle(person.getName());
             Util.setLink(responsiveBox.getTitleLabel(), PageUtil.getLink(person), person.getName());
-            responsiveBox.descriptionProperty().bind(DataRepository.getInstance().personDescriptionProperty(person));
+            responsiveBox.descriptionProperty().bind(MarkdownStore.getInstance().personDescriptionProperty(person));
             championImageView.setVisible(person.isChampion());
             rockstarImageView.setVisible(person.isRockstar());
             responsiveBox.imageProperty().bind(ImageManager.getInstance().personImageProperty(person));
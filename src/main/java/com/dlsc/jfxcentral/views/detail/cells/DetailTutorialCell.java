@@ -1,5 +1,6 @@
 package com.dlsc.jfxcentral.views.detail.cells;
 
+import com.dlsc.jfxcentral.cache.MarkdownStore;
 import com.dlsc.jfxcentral.data.DataRepository;
 import com.dlsc.jfxcentral.data.ImageManager;
 import com.dlsc.jfxcentral.data.model.Tutorial;
@@ -75,7 +76,7 @@ public class DetailTutorialCell extends DetailCell<Tutorial> {
 
             responsiveBox.imageProperty().bind(ImageManager.getInstance().tutorialImageProperty(tutorial));
             responsiveBox.getMarkdownView().setBaseURL(DataRepository.getInstance().getRepositoryDirectoryURL() + "tutorials/" + tutorial.getId());
-            responsiveBox.descriptionProperty().bind(DataRepository.getInstance().tutorialTextProperty(tutorial));
+            responsiveBox.descriptionProperty().bind(MarkdownStore.getInstance().tutorialTextProperty(tutorial));
 
             Util.setLink(visitButton, tutorial.getUrl(), tutorial.getName());
         }
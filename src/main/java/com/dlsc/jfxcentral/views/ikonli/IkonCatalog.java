@@ -0,0 +1,197 @@
+package com.dlsc.jfxcentral.views.ikonli;
+
+import org.kordamp.ikonli.Ikon;
+import org.kordamp.ikonli.IkonProvider;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * All icon fonts available via the {@link IkonProvider} services, together
+ * with their icons and a search index over them. The catalog gets created
+ * only once per JVM, on a background thread of the common fork join pool,
+ * and is then shared by all browsers (and all sessions). The icons of the
+ * individual fonts are resolved in parallel. If the catalog can not be
+ * created the next request tries again.
+ */
+public final class IkonCatalog {
+
+    private static final Logger LOG = Logger.getLogger(IkonCatalog.class.getName());
+
+    private static CompletableFuture<IkonCatalog> catalog;
+
+    private final List<IkonData> fonts;
+
+    private final Map<Ikon, IkonData> dataMap;
+
+    private final IkonSearchIndex searchIndex;
+
+    private IkonCatalog(List<IkonData> fonts) {
+        this.fonts = Collections.unmodifiableList(fonts);
+
+        Map<Ikon, IkonData> dataMap = new HashMap<>();
+        List<Ikon> ikons = new ArrayList<>();
+        fonts.forEach(data -> {
+            for (Ikon ikon : data.ikons) {
+                dataMap.put(ikon, data);
+                ikons.add(ikon);
+            }
+        });
+
+        this.dataMap = dataMap;
+        this.searchIndex = IkonSearchIndex.of(ikons);
+    }
+
+    /**
+     * Starts creating the catalog in the background, e.g. when the
+     * application starts, so that it is available by the time the first
+     * browser gets opened. Calling this method more than once has no effect.
+     */
+    public static void preload() {
+        get();
+    }
+
+    /**
+     * Returns the catalog, which might still be in the process of being
+     * created. The returned future completes exceptionally if the catalog
+     * could not be created.
+     *
+     * @return the catalog
+     */
+    static synchronized CompletableFuture<IkonCatalog> get() {
+        if (catalog == null) {
+            // the worker threads of the common pool do not have the context class loader of the application
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            if (classLoader == null) {
+                classLoader = IkonProvider.class.getClassLoader();
+            }
+
+            ClassLoader providerClassLoader = classLoader;
+            CompletableFuture<IkonCatalog> future = CompletableFuture.supplyAsync(() -> load(providerClassLoader));
+            future.whenComplete((result, ex) -> {
+                if (ex != null) {
+                    LOG.log(Level.WARNING, "unable to create the icon catalog", ex);
+                    reset(future);
+                }
+            });
+
+            catalog = future;
+        }
+        return catalog;
+    }
+
+    // allows the next call of get() to try again
+    private static synchronized void reset(CompletableFuture<IkonCatalog> future) {
+        if (catalog == future) {
+            catalog = null;
+        }
+    }
+
+    private static IkonCatalog load(ClassLoader classLoader) {
+        long time = System.currentTimeMillis();
+
+        List<IkonProvider> providers = new ArrayList<>();
+        if (null != IkonProvider.class.getModule().getLayer()) {
+            ServiceLoader.load(IkonProvider.class.getModule().getLayer(), IkonProvider.class).forEach(providers::add);
+        } else {
+            ServiceLoader.load(IkonProvider.class, classLoader).forEach(providers::add);
+        }
+
+        List<IkonData> fonts = providers.parallelStream()
+                .map(IkonData::of)
+                .sorted()
+                .collect(Collectors.toList());
+
+        IkonCatalog catalog = new IkonCatalog(fonts);
+
+        if (LOG.isLoggable(Level.FINE)) {
+            LOG.fine("icon catalog created in " + (System.currentTimeMillis() - time) + " ms, fonts: " + fonts.size() + ", " + catalog.searchIndex);
+        }
+
+        return catalog;
+    }
+
+    /**
+     * Returns all icon fonts, sorted by name.
+     *
+     * @return the icon fonts
+     */
+    List<IkonData> getFonts() {
+        return fonts;
+    }
+
+    /**
+     * Returns the font of the given icon.
+     *
+     * @param ikon the icon
+     * @return the icon font
+     */
+    IkonData getData(Ikon ikon) {
+        return dataMap.get(ikon);
+    }
+
+    /**
+     * Returns the index for searching the icons of all fonts.
+     *
+     * @return the search index
+     */
+    IkonSearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
+    static final class IkonData implements Comparable<IkonData> {
+
+        private final String name;
+
+        private final IkonProvider ikonProvider;
+
+        private final Ikon[] ikons;
+
+        private IkonData(String name, IkonProvider ikonProvider, Ikon[] ikons) {
+            this.name = name;
+            this.ikonProvider = ikonProvider;
+            this.ikons = ikons;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+
+        @Override
+        public int compareTo(IkonData o) {
+            return name.compareTo(o.name);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public IkonProvider getIkonProvider() {
+            return ikonProvider;
+        }
+
+        /*
+         * The icons of the font, the array must not be modified.
+         */
+        Ikon[] getIkons() {
+            return ikons;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        static IkonData of(IkonProvider ikonProvider) {
+            EnumSet enumSet = EnumSet.allOf(ikonProvider.getIkon());
+            Ikon[] ikons = (Ikon[]) enumSet.toArray(new Ikon[0]);
+            return new IkonData(ikonProvider.getIkon().getSimpleName(), ikonProvider, ikons);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.dlsc.jfxcentral.views.ikonli;
 
 import com.dlsc.gemsfx.SearchField;
+import javafx.beans.InvalidationListener;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
@@ -8,18 +9,59 @@ import javafx.collections.ObservableList;
 import javafx.util.StringConverter;
 import org.kordamp.ikonli.Ikon;
 
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 public class IkonSearchField extends SearchField<Ikon> {
 
+    // the suggestions get computed on a background thread, so they use a copy of the icons
+    private volatile Set<Ikon> iconSet = Collections.emptySet();
+
+    private volatile IkonSearchIndex searchIndex;
+
     public IkonSearchField() {
-        icons.addListener(it -> updateField());
+        InvalidationListener updateIconSetListener = it -> updateIconSet();
+
+        icons.addListener((obs, oldIcons, newIcons) -> {
+            if (oldIcons != null) {
+                oldIcons.removeListener(updateIconSetListener);
+            }
+            if (newIcons != null) {
+                newIcons.addListener(updateIconSetListener);
+            }
+            updateIconSet();
+            updateField();
+        });
+
         setHidePopupWithSingleChoice(true);
     }
 
+    /*
+     * Sets the index used for finding the icons matching the text. Without
+     * an index all icons get checked.
+     */
+    void setSearchIndex(IkonSearchIndex searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    private void updateIconSet() {
+        iconSet = getIcons() != null ? new HashSet<>(getIcons()) : Collections.emptySet();
+    }
+
     private void updateField() {
-        setSuggestionProvider(request -> getIcons().stream().filter(ikon -> ikon.getDescription().toLowerCase().contains(request.getUserText().toLowerCase())).collect(Collectors.toList()));
+        setSuggestionProvider(request -> {
+            Set<Ikon> iconSet = this.iconSet;
+            IkonSearchIndex searchIndex = this.searchIndex;
+            if (searchIndex != null) {
+                return searchIndex.search(request.getUserText(), iconSet::contains);
+            }
+
+            String text = request.getUserText().toLowerCase();
+            return iconSet.stream().filter(ikon -> ikon.getDescription().toLowerCase().contains(text)).collect(Collectors.toList());
+        });
 
         setMatcher((ikon, text) -> ikon.getDescription().toLowerCase().startsWith(text.toLowerCase()));
         setComparator(Comparator.comparing(Ikon::getDescription));
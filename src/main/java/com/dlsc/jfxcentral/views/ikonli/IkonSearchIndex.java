@@ -0,0 +1,128 @@
+package com.dlsc.jfxcentral.views.ikonli;
+
+import org.kordamp.ikonli.Ikon;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * An index over the descriptions of icons, used for finding all icons whose
+ * description contains a given text. For each sequence of three characters
+ * (trigram) the index stores the icons whose description contains it, so a
+ * search only needs to check the icons listed for the rarest trigram of the
+ * search text instead of all icons. Texts shorter than three characters are
+ * matched against the lower case descriptions, which get computed only once.
+ * <p>
+ * The index is immutable and can be shared by all sessions.
+ */
+final class IkonSearchIndex {
+
+    private static final int N = 3;
+
+    private static final int[] EMPTY = new int[0];
+
+    private final Ikon[] ikons;
+
+    private final String[] descriptions;
+
+    // trigram -> indices of the icons containing it, ascending
+    private final Map<String, int[]> postings;
+
+    private IkonSearchIndex(Ikon[] ikons, String[] descriptions, Map<String, int[]> postings) {
+        this.ikons = ikons;
+        this.descriptions = descriptions;
+        this.postings = postings;
+    }
+
+    /**
+     * Creates an index over the given icons.
+     *
+     * @param ikons the icons
+     * @return the index
+     */
+    static IkonSearchIndex of(Collection<? extends Ikon> ikons) {
+        Ikon[] array = ikons.toArray(new Ikon[0]);
+        String[] descriptions = new String[array.length];
+
+        Map<String, List<Integer>> lists = new HashMap<>();
+
+        for (int i = 0; i < array.length; i++) {
+            String description = array[i].getDescription().toLowerCase(Locale.ROOT);
+            descriptions[i] = description;
+
+            for (int j = 0; j + N <= description.length(); j++) {
+                List<Integer> list = lists.computeIfAbsent(description.substring(j, j + N), key -> new ArrayList<>());
+
+                // the same trigram can occur more than once in a description
+                if (list.isEmpty() || list.get(list.size() - 1) != i) {
+                    list.add(i);
+                }
+            }
+        }
+
+        Map<String, int[]> postings = new HashMap<>(lists.size() * 4 / 3 + 1);
+        lists.forEach((trigram, list) -> postings.put(trigram, list.stream().mapToInt(Integer::intValue).toArray()));
+
+        return new IkonSearchIndex(array, descriptions, postings);
+    }
+
+    /**
+     * Returns all icons whose description contains the given text, ignoring
+     * the case, and that are accepted by the given filter.
+     *
+     * @param text   the search text
+     * @param filter a filter for the icons, e.g. the icons of the selected fonts
+     * @return the matching icons in the order they were indexed
+     */
+    List<Ikon> search(String text, Predicate<Ikon> filter) {
+        String query = text.toLowerCase(Locale.ROOT);
+
+        List<Ikon> result = new ArrayList<>();
+
+        if (query.length() < N) {
+            for (int i = 0; i < ikons.length; i++) {
+                if (descriptions[i].contains(query) && filter.test(ikons[i])) {
+                    result.add(ikons[i]);
+                }
+            }
+            return result;
+        }
+
+        // the icons containing all trigrams of the query are a subset of those containing the rarest one
+        int[] candidates = null;
+        for (int j = 0; j + N <= query.length(); j++) {
+            int[] posting = postings.getOrDefault(query.substring(j, j + N), EMPTY);
+            if (candidates == null || posting.length < candidates.length) {
+                candidates = posting;
+            }
+        }
+
+        for (int i : candidates) {
+            if (descriptions[i].contains(query) && filter.test(ikons[i])) {
+                result.add(ikons[i]);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the number of indexed icons.
+     *
+     * @return the number of icons
+     */
+    int size() {
+        return ikons.length;
+    }
+
+    @Override
+    public String toString() {
+        return "icons: " + ikons.length + ", trigrams: " + postings.size() + ", descriptions: " + Arrays.stream(descriptions).mapToInt(String::length).sum() + " chars";
+    }
+}
@@ -1,8 +1,10 @@
 package com.dlsc.jfxcentral.views.ikonli;
 
+import com.dlsc.jfxcentral.views.ikonli.IkonCatalog.IkonData;
 import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
-import javafx.beans.binding.Bindings;
+import javafx.beans.WeakInvalidationListener;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
@@ -19,12 +21,10 @@ import org.apache.commons.lang3.StringUtils;
 import org.controlsfx.control.GridCell;
 import org.controlsfx.control.GridView;
 import org.kordamp.ikonli.Ikon;
-import org.kordamp.ikonli.IkonProvider;
 import org.kordamp.ikonli.javafx.FontIcon;
 import org.kordamp.ikonli.materialdesign.MaterialDesign;
 
 import java.util.*;
-import java.util.function.Predicate;
 
 public class IkonliBrowser extends BorderPane {
 
@@ -33,16 +33,23 @@ public class IkonliBrowser extends BorderPane {
     private final IkonSearchField searchField;
     private final Label statusLabel;
 
+    // all icons of the selected fonts, the grid only shows the ones matching the search text
+    private final ObservableList<Ikon> icons = FXCollections.observableArrayList();
+    private final FilteredList<Ikon> filteredIcons = new FilteredList<>(icons);
+
+    // set once the catalog has been loaded in the background
+    private IkonCatalog catalog;
+
     public IkonliBrowser() {
         getStyleClass().add("ikonli-browser");
 
         ListView<IkonData> fontsListView = new ListView<>();
         fontsListView.setMinWidth(Region.USE_PREF_SIZE);
-        fontsListView.getItems().setAll(resolveIkonData());
         fontsListView.getSelectionModel().getSelectedItems().addListener((Observable it) -> fillGridView(fontsListView.getSelectionModel().getSelectedItems()));
         fontsListView.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
 
-        gridView = new GridView<>();
+        // the grid view is virtualized, it only creates cells for the visible rows and reuses them while scrolling
+        gridView = new GridView<>(filteredIcons);
         gridView.setHorizontalCellSpacing(20);
         gridView.setVerticalCellSpacing(20);
         gridView.getStyleClass().add("icon-grid");
@@ -52,6 +59,9 @@ public class IkonliBrowser extends BorderPane {
             Label nameLabel = new Label();
             VBox wrapper;
 
+            // the grid view discards cells when its size changes, so they must not be kept alive by the browser
+            InvalidationListener selectedIkonListener = it -> updateWrapperStyleClass();
+
             {
                 nameLabel.setWrapText(true);
                 nameLabel.setMinHeight(Region.USE_PREF_SIZE);
@@ -61,7 +71,7 @@ public class IkonliBrowser extends BorderPane {
                 wrapper.getStyleClass().add("wrapper");
                 wrapper.setAlignment(Pos.TOP_CENTER);
 
-                selectedIkonProperty().addListener(it -> updateWrapperStyleClass());
+                selectedIkonProperty().addListener(new WeakInvalidationListener(selectedIkonListener));
                 wrapper.setOnMouseClicked(me -> setSelectedIkon(getItem()));
 
                 setGraphic(wrapper);
@@ -87,7 +97,7 @@ public class IkonliBrowser extends BorderPane {
                 if (item != null && !empty) {
                     icon.setIconCode(item);
                     if (fontsListView.getSelectionModel().getSelectedItems().size() > 1) {
-                        nameLabel.setText(item.getDescription() + "\n(" + DATA_MAP.get(item).name + ")");
+                        nameLabel.setText(item.getDescription() + "\n(" + catalog.getData(item).getName() + ")");
                     } else {
                         nameLabel.setText(item.getDescription());
                     }
@@ -114,7 +124,9 @@ public class IkonliBrowser extends BorderPane {
         });
 
         searchField = new IkonSearchField();
-        searchField.getSuggestions().addListener((Observable it) -> fillGridView(fontsListView.getSelectionModel().getSelectedItems()));
+        searchField.setIcons(icons);
+        searchField.getSuggestions().addListener((Observable it) -> updateFilter());
+        searchField.textProperty().addListener(it -> updateFilter());
         searchField.setPromptText("Search by name ...");
 
         fontsListView.getSelectionModel().selectedItemProperty().addListener(it -> {
@@ -126,7 +138,7 @@ public class IkonliBrowser extends BorderPane {
         header.setAlignment(Pos.CENTER_RIGHT);
         header.getStyleClass().add("header");
 
-        statusLabel = new Label();
+        statusLabel = new Label("Loading icons ...");
         statusLabel.getStyleClass().add("status-label");
 
         setTop(header);
@@ -134,7 +146,20 @@ public class IkonliBrowser extends BorderPane {
         setCenter(gridView);
         setBottom(statusLabel);
 
-        fontsListView.getSelectionModel().select(0);
+        // the catalog gets created only once, in the background, and is then shared by all browsers
+        IkonCatalog.get().whenComplete((catalog, ex) -> Platform.runLater(() -> {
+            if (ex != null) {
+                // already logged by the catalog, opening the browser again retries
+                Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                statusLabel.setText("Unable to load the icons: " + cause.getMessage());
+                return;
+            }
+
+            this.catalog = catalog;
+            searchField.setSearchIndex(catalog.getSearchIndex());
+            fontsListView.getItems().setAll(catalog.getFonts());
+            fontsListView.getSelectionModel().select(0);
+        }));
 
         setPrefHeight(0);
         VBox.setVgrow(this, Priority.ALWAYS);
@@ -158,76 +183,21 @@ public class IkonliBrowser extends BorderPane {
 
     private void fillGridView(ObservableList<IkonData> selection) {
         Platform.runLater(() -> {
-            ObservableList<? extends Ikon> icons = FXCollections.observableArrayList();
-            selection.forEach(data -> {
-                IkonProvider ikonProvider = data.getIkonProvider();
-                EnumSet enumSet = EnumSet.allOf(ikonProvider.getIkon());
-                icons.addAll(enumSet);
-            });
-
-            searchField.setIcons(icons);
-            statusLabel.setText("Number of icons: " + icons.size());
+            List<Ikon> list = new ArrayList<>();
+            selection.forEach(data -> list.addAll(Arrays.asList(data.getIkons())));
 
-            FilteredList<? extends Ikon> filteredList = new FilteredList<>(icons);
-            filteredList.predicateProperty().bind(Bindings.createObjectBinding(() -> (Predicate<Ikon>) ikon -> {
-                if (StringUtils.isBlank(searchField.getText())) {
-                    return true;
-                }
-                return searchField.getSuggestions().contains(ikon);
-            }, searchField.getSuggestions(), searchField.textProperty()));
-            gridView.getItems().setAll(filteredList);
+            icons.setAll(list);
+            statusLabel.setText("Number of icons: " + icons.size());
         });
     }
 
-    // yes, this can be static and shared across JPro sessions
-    private static Map<Ikon, IkonData> DATA_MAP = new HashMap<>();
-
-    private Set<IkonData> resolveIkonData() {
-        Set<IkonData> ikons = new TreeSet<>();
-        if (null != IkonProvider.class.getModule().getLayer()) {
-            for (IkonProvider provider : ServiceLoader.load(IkonProvider.class.getModule().getLayer(), IkonProvider.class)) {
-                ikons.add(IkonData.of(provider));
-            }
+    private void updateFilter() {
+        if (StringUtils.isBlank(searchField.getText())) {
+            filteredIcons.setPredicate(null);
         } else {
-            for (IkonProvider provider : ServiceLoader.load(IkonProvider.class)) {
-                ikons.add(IkonData.of(provider));
-            }
-        }
-
-        ikons.forEach(data -> {
-            IkonProvider ikonProvider = data.getIkonProvider();
-            EnumSet enumSet = EnumSet.allOf(ikonProvider.getIkon());
-            enumSet.forEach(icon -> DATA_MAP.put((Ikon) icon, data));
-        });
-
-        System.out.println("size: " + DATA_MAP.size());
-
-        return ikons;
-    }
-
-    private static class IkonData implements Comparable<IkonData> {
-        private String name;
-        private IkonProvider ikonProvider;
-
-        @Override
-        public String toString() {
-            return name;
-        }
-
-        @Override
-        public int compareTo(IkonData o) {
-            return name.compareTo(o.name);
-        }
-
-        public IkonProvider getIkonProvider() {
-            return ikonProvider;
-        }
-
-        static IkonData of(IkonProvider ikonProvider) {
-            IkonData ikonData = new IkonData();
-            ikonData.name = ikonProvider.getIkon().getSimpleName();
-            ikonData.ikonProvider = ikonProvider;
-            return ikonData;
+            // a set, so filtering does not have to search the list of suggestions for each icon
+            Set<Ikon> suggestions = new HashSet<>(searchField.getSuggestions());
+            filteredIcons.setPredicate(suggestions::contains);
         }
     }
 }
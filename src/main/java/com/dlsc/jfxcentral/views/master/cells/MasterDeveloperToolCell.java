@@ -1,6 +1,7 @@
 package com.dlsc.jfxcentral.views.master.cells;
 
 import com.dlsc.jfxcentral.JFXCentralApp;
+import com.dlsc.jfxcentral.cache.ImageCache;
 import com.dlsc.jfxcentral.util.DeveloperTool;
 import com.dlsc.jfxcentral.views.MarkdownView;
 import com.dlsc.jfxcentral.views.View;
@@ -73,13 +74,18 @@ public class MasterDeveloperToolCell extends MasterCell<DeveloperTool> {
     private Image getImage(DeveloperTool tool) {
         switch (tool.getTool()) {
             case CSS_DOCS:
-                return new Image(JFXCentralApp.class.getResource("devtools/cssdocs.jpg").toExternalForm());
+                return getImage("devtools/cssdocs.jpg");
             case IKONLI:
-                return new Image(JFXCentralApp.class.getResource("devtools/iconbrowser.png").toExternalForm());
+                return getImage("devtools/iconbrowser.png");
             case CSS_SHOWCASE:
-                return new Image(JFXCentralApp.class.getResource("devtools/showcasefx.jpg").toExternalForm());
+                return getImage("devtools/showcasefx.jpg");
         }
 
         return null;
     }
+
+    private Image getImage(String resource) {
+        // decoded in the size of the image view and shared by all cells
+        return ImageCache.getInstance().getImage(JFXCentralApp.class.getResource(resource).toExternalForm(), imageView.getFitWidth(), imageView.getFitHeight());
+    }
 }
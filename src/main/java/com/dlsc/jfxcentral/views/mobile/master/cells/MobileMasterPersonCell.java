@@ -1,6 +1,6 @@
 package com.dlsc.jfxcentral.views.mobile.master.cells;
 
-import com.dlsc.jfxcentral.data.DataRepository;
+import com.dlsc.jfxcentral.cache.MarkdownStore;
 import com.dlsc.jfxcentral.data.ImageManager;
 import com.dlsc.jfxcentral.data.model.Person;
 import com.dlsc.jfxcentral.views.MarkdownView;
@@ -84,7 +84,7 @@ public class MobileMasterPersonCell extends MobileAdvancedListCell<Person> {
         if (!empty && person != null) {
             label.setText(person.getName());
             photoView.photoProperty().bind(ImageManager.getInstance().personImageProperty(person));
-            markdownView.mdStringProperty().bind(DataRepository.getInstance().personDescriptionProperty(person));
+            markdownView.mdStringProperty().bind(MarkdownStore.getInstance().personDescriptionProperty(person));
             championLabel.setVisible(person.isChampion());
             championLabel.setManaged(person.isChampion());
             rockstarLabel.setVisible(person.isRockstar());
@@ -1,6 +1,7 @@
 package com.dlsc.jfxcentral.views.mobile.master.cells;
 
 import com.dlsc.jfxcentral.JFXCentralApp;
+import com.dlsc.jfxcentral.cache.ImageCache;
 import com.dlsc.jfxcentral.data.model.Tip;
 import com.dlsc.jfxcentral.views.MarkdownView;
 import com.dlsc.jfxcentral.views.View;
@@ -8,7 +9,6 @@ import com.dlsc.jfxcentral.views.mobile.MobileAdvancedListCell;
 import javafx.geometry.Pos;
 import javafx.scene.control.ContentDisplay;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
@@ -29,7 +29,7 @@ public class MobileMasterTipsCell extends MobileAdvancedListCell<Tip> {
 
         imageView.setFitWidth(50);
         imageView.setPreserveRatio(true);
-        imageView.setImage(new Image(JFXCentralApp .class.getResource("tip-round.jpg").toExternalForm()));
+        imageView.setImage(ImageCache.getInstance().getImage(JFXCentralApp.class.getResource("tip-round.jpg").toExternalForm()));
 
         label.getStyleClass().add("title-label");
         label.setWrapText(true);
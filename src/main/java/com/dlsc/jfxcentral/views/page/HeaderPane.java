@@ -2,8 +2,9 @@ package com.dlsc.jfxcentral.views.page;
 
 import com.dlsc.jfxcentral.JFXCentralApp;
 import com.dlsc.jfxcentral.NavigationView;
-import com.dlsc.jfxcentral.data.DataRepository;
 import com.dlsc.jfxcentral.data.model.ModelObject;
+import com.dlsc.jfxcentral.search.SearchCache;
+import com.dlsc.jfxcentral.search.SearchIndex;
 import com.dlsc.jfxcentral.views.ModelObjectSearchResultCell;
 import com.dlsc.jfxcentral.views.RootPane;
 import com.dlsc.jfxcentral.views.autocomplete.OmniBoxSearchField;
@@ -44,7 +45,29 @@ public class HeaderPane extends HBox {
 
             @Override
             public List<SearchResult<ModelObject>> search(SearchContext ctx, String pattern) {
-                List<ModelObject> result = DataRepository.getInstance().search(pattern);
+                return wrap(SearchCache.getInstance().search(pattern));
+            }
+
+            @Override
+            public List<SearchResult<ModelObject>> narrow(SearchContext ctx, String previousPattern, List<SearchResult<ModelObject>> previousResults, String pattern) {
+                if (!SearchIndex.canNarrow(previousPattern, pattern.trim())) {
+                    return null;
+                }
+
+                List<ModelObject> cached = SearchCache.getInstance().get(pattern);
+                if (cached != null) {
+                    return wrap(cached);
+                }
+
+                List<ModelObject> candidates = new ArrayList<>(previousResults.size());
+                previousResults.forEach(result -> candidates.add(result.getValue()));
+
+                SearchIndex index = SearchIndex.getInstance();
+                List<ModelObject> result = index.narrow(pattern, candidates);
+                return result != null ? wrap(SearchCache.getInstance().put(pattern, index, result)) : null;
+            }
+
+            private List<SearchResult<ModelObject>> wrap(List<ModelObject> result) {
                 List<SearchResult<ModelObject>> searchResults = new ArrayList<>();
                 for (ModelObject mo : result) {
                     searchResults.add(new SearchResult<>(mo));